@@ -0,0 +1,93 @@
+package com.cinema.application.audit;
+
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.port.AuditRollupRepository;
+import com.cinema.domain.port.AuditRollupRepository.Granularity;
+import com.cinema.domain.port.AuditRollupRepository.Point;
+import com.cinema.infrastructure.audit.AuditActivityCounters;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+public class AuditActivityUseCase {
+
+    private static final int MAX_BUCKETS = 2000;
+
+    private final AuditRollupRepository rollups;
+    private final AuditActivityCounters counters;
+    private final Clock clock;
+
+    public AuditActivityUseCase(AuditRollupRepository rollups, AuditActivityCounters counters, Clock clock) {
+        this.rollups = Objects.requireNonNull(rollups);
+        this.counters = Objects.requireNonNull(counters);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+
+    public Series series(String granularity, String action, Instant from, Instant to) {
+        Granularity g = parseGranularity(granularity);
+        String a = (action == null || action.isBlank()) ? null : action.trim().toUpperCase(Locale.ROOT);
+
+        Instant end = ceil(g, to != null ? to : clock.instant());
+        Instant start = g.bucketOf(from != null ? from : end.minus(g.length().multipliedBy(defaultBuckets(g))));
+
+        if (!start.isBefore(end)) throw new ValidationException("from", "from must be before to");
+        if (end.getEpochSecond() - start.getEpochSecond() > g.length().getSeconds() * MAX_BUCKETS) {
+            throw new ValidationException("from", "Range is too large for " + g.name().toLowerCase(Locale.ROOT) + " buckets");
+        }
+
+        Map<Key, Long> merged = new LinkedHashMap<>();
+        for (Point p : rollups.findSeries(g, a, start, end)) {
+            merged.merge(new Key(p.action(), p.bucketStart()), p.count(), Long::sum);
+        }
+
+        // minutes still held in memory have not reached audit_rollups yet
+        for (Point p : counters.pending(a)) {
+            Instant bucket = g.bucketOf(p.bucketStart());
+            if (bucket.isBefore(start) || !bucket.isBefore(end)) continue;
+            merged.merge(new Key(p.action(), bucket), p.count(), Long::sum);
+        }
+
+        List<Point> points = merged.entrySet().stream()
+                .map(e -> new Point(e.getKey().action(), e.getKey().bucketStart(), e.getValue()))
+                .sorted(Comparator.comparing(Point::action).thenComparing(Point::bucketStart))
+                .toList();
+
+        return new Series(g, start, end, points);
+    }
+
+    private static Granularity parseGranularity(String raw) {
+        if (raw == null || raw.isBlank()) return Granularity.MINUTE;
+        try {
+            return Granularity.valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("granularity", "granularity must be one of minute, hour, day");
+        }
+    }
+
+    private static Instant ceil(Granularity g, Instant instant) {
+        Instant bucket = g.bucketOf(instant);
+        return bucket.equals(instant) ? instant : bucket.plus(g.length());
+    }
+
+    private static int defaultBuckets(Granularity g) {
+        return switch (g) {
+            case MINUTE -> 60;
+            case HOUR -> 48;
+            case DAY -> 30;
+        };
+    }
+
+
+    public record Series(Granularity granularity, Instant from, Instant to, List<Point> points) {}
+
+    private record Key(String action, Instant bucketStart) {}
+}
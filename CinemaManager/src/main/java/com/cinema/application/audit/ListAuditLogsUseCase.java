@@ -1,22 +1,65 @@
-
 package com.cinema.application.audit;
 
+import com.cinema.domain.Exceptions.ValidationException;
 import com.cinema.domain.entity.AuditLog;
+import com.cinema.domain.port.AuditArchive;
 import com.cinema.domain.port.AuditLogRepository;
+import com.cinema.domain.port.AuditLogRepository.AuditCursor;
+import com.cinema.domain.port.AuditLogRepository.AuditQuery;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 @Service
 public class ListAuditLogsUseCase {
 
+    private static final int MAX_LIMIT = 200;
+    private static final int MAX_ACTION_LENGTH = 50;
+
     private final AuditLogRepository auditLogRepository;
+    private final AuditArchive auditArchive;
 
-    public ListAuditLogsUseCase(AuditLogRepository auditLogRepository) {
+    public ListAuditLogsUseCase(AuditLogRepository auditLogRepository, AuditArchive auditArchive) {
         this.auditLogRepository = auditLogRepository;
+        this.auditArchive = auditArchive;
     }
 
     public List<AuditLog> execute(int limit) {
         return auditLogRepository.findLatest(limit);
     }
+
+    public Page search(Long actorUserId, String action, Instant from, Instant to, String cursor, int limit) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new ValidationException("from", "from must be before to");
+        }
+
+        String normalizedAction = null;
+        if (action != null && !action.isBlank()) {
+            normalizedAction = action.trim().toUpperCase(Locale.ROOT);
+            if (normalizedAction.length() > MAX_ACTION_LENGTH) {
+                throw new ValidationException("action", "action is too long");
+            }
+        }
+
+        int safeLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        AuditCursor after = AuditCursor.decode(cursor);
+
+        AuditQuery query = new AuditQuery(actorUserId, normalizedAction, from, to);
+        var page = auditLogRepository.search(query, after, safeLimit);
+        if (page.next() != null) return new Page(page.items(), page.next().encode());
+
+        // everything archived is older than every hot row, so the archive simply continues the same keyset order
+        List<AuditLog> items = new ArrayList<>(page.items());
+        AuditCursor archiveAfter = items.isEmpty() ? after : AuditCursor.of(items.get(items.size() - 1));
+        items.addAll(auditArchive.search(query, archiveAfter, safeLimit - items.size()));
+
+        String next = items.size() == safeLimit ? AuditCursor.of(items.get(items.size() - 1)).encode() : null;
+        return new Page(items, next);
+    }
+
+
+    public record Page(List<AuditLog> items, String nextCursor) {}
 }
@@ -36,7 +36,7 @@ public class ChangeProgramStateUseCase {
 
 
     @Transactional
-    public Program changeState(UserId callerId, ProgramId programId, ProgramState nextState) {
+    public Result changeState(UserId callerId, ProgramId programId, ProgramState nextState) {
         if (callerId == null) throw new AuthorizationException("Unauthorized");
         if (programId == null) throw new ValidationException("programId", "programId is required");
         if (nextState == null) throw new ValidationException("nextState", "nextState is required");
@@ -52,14 +52,17 @@ public class ChangeProgramStateUseCase {
         program.changeState(nextState, stateMachine);
 
 
+        int autoRejected = 0;
         if (nextState == ProgramState.DECISION) {
-            var approved = screeningRepository.findByProgramAndState(programId, ScreeningState.APPROVED);
-            for (Screening s : approved) {
-                s.reject("Auto-rejected: approved but not finally submitted");
-                screeningRepository.save(s);
-            }
+            autoRejected = screeningRepository.rejectAllInState(
+                    programId,
+                    ScreeningState.APPROVED,
+                    Screening.requireRejectionReason("Auto-rejected: approved but not finally submitted")
+            );
         }
 
-        return programRepository.save(program);
+        return new Result(programRepository.save(program), autoRejected);
     }
+
+    public record Result(Program program, int autoRejected) {}
 }
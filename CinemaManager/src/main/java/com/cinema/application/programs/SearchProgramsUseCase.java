@@ -1,20 +1,26 @@
 package com.cinema.application.programs;
 
 import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.value.ProgramId;
 import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramRelationship;
 import com.cinema.domain.enums.ProgramState;
 import com.cinema.domain.port.ProgramRepository;
 import com.cinema.domain.port.ScreeningRepository;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Service
 public class SearchProgramsUseCase {
 
+    private static final int BATCH_SIZE = 50;
+
     private final ProgramRepository programRepository;
     private final ScreeningRepository screeningRepository;
 
@@ -24,57 +30,122 @@ public class SearchProgramsUseCase {
     }
 
 
-    public List<Program> search(
+    public SearchResult search(
             UserId actorId,
             String name,
             ProgramState state,
             LocalDate from,
             LocalDate to,
+            LocalDate runningOn,
+            String cursor,
             int offset,
             int limit
     ) {
         int safeOffset = Math.max(0, offset);
         int safeLimit = Math.max(1, Math.min(limit, 200));
 
+        ProgramState effectiveState = state;
+        if (actorId == null) {
+            if (state != null && state != ProgramState.ANNOUNCED) return new SearchResult(List.of(), null);
+            effectiveState = ProgramState.ANNOUNCED;
+        }
 
-        int fetchOffset = 0;
-        int fetchLimit = safeOffset + safeLimit + 200;
+        ProgramRepository.SearchFilter filter =
+                new ProgramRepository.SearchFilter(name, effectiveState, from, to, runningOn);
+        ProgramRepository.SearchCursor after = ProgramRepository.SearchCursor.decode(cursor);
 
-        List<Program> raw = programRepository.search(name, state, from, to, fetchOffset, fetchLimit);
 
-        return raw.stream()
-                .filter(p -> canSee(actorId, p))
-                .sorted(byDateThenName())
-                .skip(safeOffset)
-                .limit(safeLimit)
-                .toList();
-    }
+        int toSkip = (after == null) ? safeOffset : 0;
+        int batchSize = Math.max(safeLimit, BATCH_SIZE);
+        List<ViewProgramUseCase.ViewResult> page = new ArrayList<>(safeLimit);
 
-    private boolean canSee(UserId actorId, Program p) {
+        while (page.size() < safeLimit) {
+            List<Program> batch = programRepository.search(filter, after, batchSize);
+            if (batch.isEmpty()) break;
 
-        if (actorId == null) {
-            return p.state() == ProgramState.ANNOUNCED;
-        }
+            Map<ProgramId, ProgramRelationship> relationships = relationships(actorId, batch);
 
+            for (Program p : batch) {
+                after = ProgramRepository.SearchCursor.after(p);
 
-        if (p.creatorUserId().equals(actorId)
-                || programRepository.isProgrammer(p.id(), actorId)
-                || programRepository.isStaff(p.id(), actorId)) {
-            return true;
+                boolean full = relationships.containsKey(p.id());
+                if (!full && p.state() != ProgramState.ANNOUNCED) continue;
+                if (toSkip > 0) {
+                    toSkip--;
+                    continue;
+                }
+                page.add(new ViewProgramUseCase.ViewResult(p, full));
+                if (page.size() == safeLimit) break;
+            }
+
+            if (batch.size() < batchSize) break;
         }
 
+        String nextCursor = (page.size() == safeLimit)
+                ? ProgramRepository.SearchCursor.after(page.get(page.size() - 1).program()).encode()
+                : null;
+
+        return new SearchResult(List.copyOf(page), nextCursor);
+    }
+
+    public PublicSearchResult searchPublic(
+            String name,
+            ProgramState state,
+            LocalDate from,
+            LocalDate to,
+            LocalDate runningOn,
+            String cursor,
+            int offset,
+            int limit
+    ) {
+        int safeOffset = Math.max(0, offset);
+        int safeLimit = Math.max(1, Math.min(limit, 200));
+
+        if (state != null && state != ProgramState.ANNOUNCED) return new PublicSearchResult(List.of(), null);
 
-        if (screeningRepository.existsByProgramIdAndSubmitterId(p.id(), actorId)) {
-            return true;
+        ProgramRepository.SearchFilter filter =
+                new ProgramRepository.SearchFilter(name, ProgramState.ANNOUNCED, from, to, runningOn);
+        ProgramRepository.SearchCursor after = ProgramRepository.SearchCursor.decode(cursor);
+
+
+        int toSkip = (after == null) ? safeOffset : 0;
+        while (toSkip > 0) {
+            int batch = Math.min(toSkip, 200);
+            List<ProgramRepository.PublicProgram> skipped = programRepository.searchPublic(filter, after, batch);
+            if (skipped.size() < batch) return new PublicSearchResult(List.of(), null);
+
+            after = ProgramRepository.SearchCursor.after(skipped.get(skipped.size() - 1));
+            toSkip -= batch;
         }
 
+        List<ProgramRepository.PublicProgram> page = programRepository.searchPublic(filter, after, safeLimit);
+
+        String nextCursor = (page.size() == safeLimit)
+                ? ProgramRepository.SearchCursor.after(page.get(page.size() - 1)).encode()
+                : null;
 
-        return p.state() == ProgramState.ANNOUNCED;
+        return new PublicSearchResult(page, nextCursor);
     }
 
-    private Comparator<Program> byDateThenName() {
-        return Comparator
-                .comparing((Program p) -> p.startDate() != null ? p.startDate() : LocalDate.MIN)
-                .thenComparing(p -> p.name() != null ? p.name().toLowerCase() : "");
+    private Map<ProgramId, ProgramRelationship> relationships(UserId actorId, List<Program> programs) {
+        if (actorId == null || programs.isEmpty()) return Map.of();
+
+        List<ProgramId> ids = programs.stream().map(Program::id).toList();
+        Map<ProgramId, ProgramRelationship> result = new HashMap<>(programRepository.relationships(ids, actorId));
+
+
+        List<ProgramId> unrelated = ids.stream().filter(id -> !result.containsKey(id)).toList();
+        if (!unrelated.isEmpty()) {
+            for (ProgramId id : screeningRepository.findProgramIdsWithSubmitter(unrelated, actorId)) {
+                result.put(id, ProgramRelationship.SUBMITTER);
+            }
+        }
+
+        return result;
     }
+
+
+    public record PublicSearchResult(List<ProgramRepository.PublicProgram> programs, String nextCursor) {}
+
+    public record SearchResult(List<ViewProgramUseCase.ViewResult> programs, String nextCursor) {}
 }
@@ -52,6 +52,21 @@ public class ViewProgramUseCase {
     }
 
 
+    @Transactional(readOnly = true)
+    public ProgramRepository.PublicProgram viewPublic(ProgramId programId) {
+        if (programId == null) throw new ValidationException("programId", "programId is required");
+
+        var found = programRepository.findPublicById(programId);
+        if (found.isPresent()) return found.get();
+
+        // the projection only covers announced programs; anything else exists but is not public
+        if (!programRepository.existsById(programId)) {
+            throw new NotFoundException("Program", "Program not found");
+        }
+        throw new AuthorizationException("Program not available");
+    }
+
+
     public boolean canViewFull(UserId actorId, Program program) {
         if (actorId == null || program == null || program.id() == null) return false;
 
@@ -0,0 +1,45 @@
+package com.cinema.application.screenings;
+
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.port.ScreeningRepository;
+import com.cinema.infrastructure.export.ExportFormat;
+import com.cinema.infrastructure.export.ExportWriter;
+import com.cinema.infrastructure.export.StreamingExport;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class ExportScreeningsUseCase {
+
+    private static final List<String> COLUMNS = List.of(
+            "id", "programId", "submitterId", "title", "genre", "description", "room",
+            "startTime", "endTime", "state", "staffMemberId", "reviewScore",
+            "createdTime", "submittedTime", "reviewedTime", "finalLocked"
+    );
+
+    private final ScreeningRepository screeningRepository;
+
+    public ExportScreeningsUseCase(ScreeningRepository screeningRepository) {
+        this.screeningRepository = Objects.requireNonNull(screeningRepository);
+    }
+
+
+    public StreamingExport export(ExportFormat format, LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ValidationException("from", "from must not be after to");
+        }
+
+        return out -> {
+            try (ExportWriter writer = ExportWriter.open(format, out, COLUMNS)) {
+                screeningRepository.forEachInCatalog(from, to, r -> writer.row(
+                        r.id(), r.programId(), r.submitterId(), r.title(), r.genre(), r.description(), r.room(),
+                        r.startTime(), r.endTime(), r.state(), r.staffMemberId(), r.reviewScore(),
+                        r.createdTime(), r.submittedTime(), r.reviewedTime(), r.finalLocked()
+                ));
+            }
+        };
+    }
+}
@@ -6,36 +6,47 @@ import com.cinema.domain.Exceptions.ValidationException;
 import com.cinema.domain.entity.Program;
 import com.cinema.domain.entity.Screening;
 import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.ScreeningId;
 import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramRelationship;
 import com.cinema.domain.enums.ProgramState;
 import com.cinema.domain.enums.ScreeningState;
 import com.cinema.domain.port.ProgramRepository;
 import com.cinema.domain.port.ScreeningRepository;
+import com.cinema.domain.port.ScreeningSearchIndex;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.*;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 public class SearchScreeningsUseCase {
 
     private static final int MAX_LIMIT = 200;
-    private static final int FETCH_PADDING = 200;
+    private static final int SEARCH_BATCH = 500;
 
     private final ScreeningRepository screeningRepository;
     private final ProgramRepository programRepository;
+    private final ScreeningSearchIndex searchIndex;
 
     public SearchScreeningsUseCase(ScreeningRepository screeningRepository,
-                                   ProgramRepository programRepository) {
+                                   ProgramRepository programRepository,
+                                   ScreeningSearchIndex searchIndex) {
         this.screeningRepository = Objects.requireNonNull(screeningRepository);
         this.programRepository = Objects.requireNonNull(programRepository);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
     }
 
 
     @Transactional(readOnly = true)
-    public List<Screening> searchInProgram(
+    public List<ViewScreeningUseCase.ViewResult> searchInProgram(
             UserId actorId,
             ProgramId programId,
             String titleQuery,
@@ -59,73 +70,187 @@ public class SearchScreeningsUseCase {
         Program program = programRepository.findById(programId)
                 .orElseThrow(() -> new NotFoundException("Program", "Program not found"));
 
+        ProgramRole role = resolveRole(actorId, programId);
+        boolean announced = program.state() == ProgramState.ANNOUNCED;
 
-        int fetchOffset = Math.max(0, safeOffset - FETCH_PADDING);
-        int fetchLimit = safeLimit + 2 * FETCH_PADDING;
+        if (actorId == null && !announced) return List.of();
 
-        List<Screening> page = (stateFilter == null)
-                ? screeningRepository.findByProgram(programId, fetchOffset, fetchLimit)
-                : screeningRepository.findByProgram(programId, stateFilter, fetchOffset, fetchLimit);
+        ScreeningRepository.Visibility visibility = visibility(actorId, role, announced);
 
-        Stream<Screening> stream = page.stream();
+        var query = new ScreeningRepository.SearchQuery(
+                programId,
+                null,
+                null,
+                stateFilter,
+                tokenize(titleQuery),
+                tokenize(genreQuery),
+                fromDate,
+                toDate,
+                visibility,
+                timetableSort ? ScreeningRepository.SortOrder.TIMETABLE : ScreeningRepository.SortOrder.GENRE_TITLE
+        );
 
+        return screeningRepository.search(query, safeOffset, safeLimit).stream()
+                .map(s -> new ViewScreeningUseCase.ViewResult(s, canViewFull(actorId, role, s)))
+                .toList();
+    }
 
-        stream = stream.filter(s -> canView(actorId, programId, program, s));
 
+    @Transactional(readOnly = true)
+    public List<ScreeningRepository.PublicScreening> searchPublicInProgram(
+            ProgramId programId,
+            String titleQuery,
+            String genreQuery,
+            LocalDate fromDate,
+            LocalDate toDate,
+            ScreeningState stateFilter,
+            int offset,
+            int limit,
+            boolean timetableSort
+    ) {
+        if (programId == null) throw new ValidationException("programId", "programId is required");
 
-        if (hasText(titleQuery)) {
-            var words = tokenize(titleQuery);
-            stream = stream.filter(s -> containsAllWords(s.title(), words));
-        }
+        int safeOffset = Math.max(0, offset);
+        int safeLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
 
-        if (hasText(genreQuery)) {
-            var words = tokenize(genreQuery);
-            stream = stream.filter(s -> containsAllWords(s.genre(), words));
+        if (fromDate != null && toDate != null && toDate.isBefore(fromDate)) {
+            throw new ValidationException("dates", "toDate must be on/after fromDate");
         }
 
-        if (fromDate != null) {
-            stream = stream.filter(s -> s.scheduledTime() != null && !s.scheduledTime().isBefore(fromDate));
-        }
-        if (toDate != null) {
-            stream = stream.filter(s -> s.scheduledTime() != null && !s.scheduledTime().isAfter(toDate));
-        }
+        if (!isAnnounced(programId)) return List.of();
+
+        var query = new ScreeningRepository.SearchQuery(
+                programId,
+                null,
+                null,
+                stateFilter,
+                tokenize(titleQuery),
+                tokenize(genreQuery),
+                fromDate,
+                toDate,
+                new ScreeningRepository.Visibility(null, false, true),
+                timetableSort ? ScreeningRepository.SortOrder.TIMETABLE : ScreeningRepository.SortOrder.GENRE_TITLE
+        );
+
+        return screeningRepository.searchPublic(query, safeOffset, safeLimit);
+    }
 
 
-        Comparator<Screening> cmp = timetableSort
-                ? Comparator
-                .comparing((Screening s) -> s.scheduledTime() != null ? s.scheduledTime() : LocalDate.MIN)
-                .thenComparing(s -> safeLower(s.title()))
-                : Comparator
-                .comparing((Screening s) -> safeLower(s.genre()))
-                .thenComparing(s -> safeLower(s.title()));
+    @Transactional(readOnly = true)
+    public Feed<ScreeningRepository.PublicScreening> publicProgramFeed(
+            ProgramId programId,
+            ScreeningState stateFilter,
+            String cursor,
+            int limit
+    ) {
+        if (programId == null) throw new ValidationException("programId", "programId is required");
 
-        List<Screening> filteredSorted = stream.sorted(cmp).toList();
+        int safeLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        ScreeningRepository.FeedCursor after = ScreeningRepository.FeedCursor.decode(cursor);
 
+        if (!isAnnounced(programId)) return new Feed<>(List.of(), null);
+        if (stateFilter != null && stateFilter != ScreeningState.SCHEDULED) return new Feed<>(List.of(), null);
 
-        if (safeOffset >= filteredSorted.size()) return List.of();
-        int toIndex = Math.min(filteredSorted.size(), safeOffset + safeLimit);
-        return filteredSorted.subList(safeOffset, toIndex);
+        var page = screeningRepository.findPublicByProgram(programId, after, safeLimit);
+        return new Feed<>(page.items(), encode(page.next()));
     }
 
 
     @Transactional(readOnly = true)
-    public List<Screening> myScreenings(UserId actorId, ScreeningState state, int offset, int limit) {
-        if (actorId == null) throw new AuthorizationException("Unauthorized");
+    public Feed<ViewScreeningUseCase.ViewResult> programFeed(
+            UserId actorId,
+            ProgramId programId,
+            ScreeningState stateFilter,
+            String cursor,
+            int limit
+    ) {
+        if (programId == null) throw new ValidationException("programId", "programId is required");
+
+        int safeLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        ScreeningRepository.FeedCursor after = ScreeningRepository.FeedCursor.decode(cursor);
+
+        Program program = programRepository.findById(programId)
+                .orElseThrow(() -> new NotFoundException("Program", "Program not found"));
+
+        ProgramRole role = resolveRole(actorId, programId);
+        boolean announced = program.state() == ProgramState.ANNOUNCED;
+
+        if (actorId == null && !announced) return new Feed<>(List.of(), null);
+
+        var page = screeningRepository.findByProgram(
+                programId, stateFilter, visibility(actorId, role, announced), after, safeLimit);
+
+        return new Feed<>(
+                page.items().stream()
+                        .map(s -> new ViewScreeningUseCase.ViewResult(s, canViewFull(actorId, role, s)))
+                        .toList(),
+                encode(page.next())
+        );
+    }
+
+
+    @Transactional(readOnly = true)
+    public List<ViewScreeningUseCase.ViewResult> searchAll(UserId actorId, String text, int offset, int limit) {
+        if (!hasText(text)) throw new ValidationException("q", "Search text is required");
 
         int safeOffset = Math.max(0, offset);
         int safeLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        int batchSize = Math.max(safeLimit, SEARCH_BATCH);
+
+        int toSkip = safeOffset;
+        List<ViewScreeningUseCase.ViewResult> page = new ArrayList<>(safeLimit);
+        ScreeningId before = null;
+
+        while (page.size() < safeLimit) {
+            List<ScreeningId> ids = searchIndex.search(text, before, batchSize);
+            if (ids.isEmpty()) break;
+            before = ids.get(ids.size() - 1);
+
+            List<Screening> batch = screeningRepository.findByIds(ids).stream()
+                    .sorted(Comparator.comparing((Screening s) -> s.id().value()).reversed())
+                    .toList();
+
+            List<ProgramId> programIds = batch.stream().map(Screening::programId).distinct().toList();
+            Map<ProgramId, ProgramState> states = programRepository.findStates(programIds);
+            Map<ProgramId, ProgramRelationship> relationships = (actorId == null)
+                    ? Map.of()
+                    : programRepository.relationships(programIds, actorId);
+
+            for (Screening s : batch) {
+                ProgramRole role = toRole(relationships.get(s.programId()));
+                boolean full = canViewFull(actorId, role, s);
+                boolean isPublic = states.get(s.programId()) == ProgramState.ANNOUNCED
+                        && s.state() == ScreeningState.SCHEDULED;
+
+                if (!full && !isPublic) continue;
+                if (toSkip > 0) {
+                    toSkip--;
+                    continue;
+                }
+                page.add(new ViewScreeningUseCase.ViewResult(s, full));
+                if (page.size() == safeLimit) break;
+            }
+
+            if (ids.size() < batchSize) break;
+        }
 
-        int fetchOffset = Math.max(0, safeOffset - FETCH_PADDING);
-        int fetchLimit = safeLimit + 2 * FETCH_PADDING;
+        return page;
+    }
+
+
+    @Transactional(readOnly = true)
+    public List<Screening> myScreenings(UserId actorId, ScreeningState state, int offset, int limit) {
+        if (actorId == null) throw new AuthorizationException("Unauthorized");
 
-        List<Screening> raw = (state == null)
-                ? screeningRepository.findBySubmitter(actorId, fetchOffset, fetchLimit) // all states
-                : screeningRepository.findBySubmitter(actorId, state, fetchOffset, fetchLimit);
+        int safeOffset = Math.max(0, offset);
+        int safeLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
 
-        List<Screening> sorted = raw.stream().sorted(byGenreThenTitle()).toList();
+        var query = new ScreeningRepository.SearchQuery(
+                null, actorId, null, state, null, null, null, null, null,
+                ScreeningRepository.SortOrder.GENRE_TITLE
+        );
 
-        if (safeOffset >= sorted.size()) return List.of();
-        return sorted.subList(safeOffset, Math.min(sorted.size(), safeOffset + safeLimit));
+        return screeningRepository.search(query, safeOffset, safeLimit);
     }
 
 
@@ -136,42 +261,79 @@ public class SearchScreeningsUseCase {
         int safeOffset = Math.max(0, offset);
         int safeLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
 
-        int fetchOffset = Math.max(0, safeOffset - FETCH_PADDING);
-        int fetchLimit = safeLimit + 2 * FETCH_PADDING;
+        var query = new ScreeningRepository.SearchQuery(
+                null, null, staffId, null, null, null, null, null, null,
+                ScreeningRepository.SortOrder.GENRE_TITLE
+        );
 
-        List<Screening> raw = screeningRepository.findByStaffMember(staffId, fetchOffset, fetchLimit);
+        return screeningRepository.search(query, safeOffset, safeLimit);
+    }
 
-        List<Screening> sorted = raw.stream().sorted(byGenreThenTitle()).toList();
+    @Transactional(readOnly = true)
+    public Feed<Screening> myScreeningsFeed(UserId actorId, ScreeningState state, String cursor, int limit) {
+        if (actorId == null) throw new AuthorizationException("Unauthorized");
 
-        if (safeOffset >= sorted.size()) return List.of();
-        return sorted.subList(safeOffset, Math.min(sorted.size(), safeOffset + safeLimit));
+        int safeLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        var page = screeningRepository.findBySubmitter(
+                actorId, state, ScreeningRepository.FeedCursor.decode(cursor), safeLimit);
+
+        return new Feed<>(page.items(), encode(page.next()));
     }
 
-    private boolean canView(UserId actorId, ProgramId programId, Program program, Screening screening) {
-        boolean isPublic = program.state() == ProgramState.ANNOUNCED
-                && screening.state() == ScreeningState.SCHEDULED;
 
-        if (actorId == null) return isPublic;
+    @Transactional(readOnly = true)
+    public Feed<Screening> myAssignedFeed(UserId staffId, String cursor, int limit) {
+        if (staffId == null) throw new AuthorizationException("Unauthorized");
 
-        if (programRepository.isProgrammer(programId, actorId)) return true;
-        if (screening.isOwner(actorId)) return true;
+        int safeLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        var page = screeningRepository.findByStaffMember(
+                staffId, ScreeningRepository.FeedCursor.decode(cursor), safeLimit);
 
-        if (screening.isAssignedTo(actorId) && programRepository.isStaff(programId, actorId)) return true;
+        return new Feed<>(page.items(), encode(page.next()));
+    }
 
-        return isPublic;
+    private boolean isAnnounced(ProgramId programId) {
+        ProgramState state = programRepository.findStates(List.of(programId)).get(programId);
+        if (state == null) throw new NotFoundException("Program", "Program not found");
+        return state == ProgramState.ANNOUNCED;
     }
 
-    private Comparator<Screening> byGenreThenTitle() {
-        return Comparator.comparing((Screening s) -> safeLower(s.genre()))
-                .thenComparing(s -> safeLower(s.title()));
+    private ScreeningRepository.Visibility visibility(UserId actorId, ProgramRole role, boolean announced) {
+        if (role == ProgramRole.PROGRAMMER) return null;
+        return new ScreeningRepository.Visibility(actorId, role == ProgramRole.STAFF, announced);
     }
 
-    private boolean hasText(String s) {
-        return s != null && !s.trim().isEmpty();
+    private String encode(ScreeningRepository.FeedCursor cursor) {
+        return (cursor != null) ? cursor.encode() : null;
     }
 
-    private String safeLower(String s) {
-        return (s == null) ? "" : s.toLowerCase(Locale.ROOT);
+    private ProgramRole resolveRole(UserId actorId, ProgramId programId) {
+        if (actorId == null) return ProgramRole.NONE;
+
+        return toRole(programRepository.relationships(List.of(programId), actorId).get(programId));
+    }
+
+    private ProgramRole toRole(ProgramRelationship relationship) {
+        if (relationship == null) return ProgramRole.NONE;
+
+        return switch (relationship) {
+            case CREATOR, PROGRAMMER -> ProgramRole.PROGRAMMER;
+            case STAFF -> ProgramRole.STAFF;
+            case SUBMITTER -> ProgramRole.NONE;
+        };
+    }
+
+    private boolean canViewFull(UserId actorId, ProgramRole role, Screening screening) {
+        if (actorId == null) return false;
+
+        if (role == ProgramRole.PROGRAMMER) return true;
+        if (screening.isOwner(actorId)) return true;
+
+        return role == ProgramRole.STAFF && screening.isAssignedTo(actorId);
+    }
+
+    private boolean hasText(String s) {
+        return s != null && !s.trim().isEmpty();
     }
 
     private List<String> tokenize(String q) {
@@ -182,13 +344,8 @@ public class SearchScreeningsUseCase {
                 .toList();
     }
 
-    private boolean containsAllWords(String field, List<String> words) {
-        if (words == null || words.isEmpty()) return true;
-        if (field == null) return false;
-        String hay = field.toLowerCase(Locale.ROOT);
-        for (String w : words) {
-            if (!hay.contains(w)) return false;
-        }
-        return true;
-    }
+
+    public record Feed<T>(List<T> items, String nextCursor) {}
+
+    private enum ProgramRole { NONE, PROGRAMMER, STAFF }
 }
@@ -54,6 +54,20 @@ public class ViewScreeningUseCase {
         return new ViewResult(screening, full);
     }
 
+    @Transactional(readOnly = true)
+    public ScreeningRepository.PublicScreening viewPublic(ScreeningId id) {
+        if (id == null) throw new ValidationException("screeningId", "screeningId is required");
+
+        var found = screeningRepository.findPublicById(id);
+        if (found.isPresent()) return found.get();
+
+        // the projection only covers scheduled screenings of announced programs
+        if (!screeningRepository.existsById(id)) {
+            throw new NotFoundException("Screening", "Screening not found");
+        }
+        throw new AuthorizationException("Not allowed to view this screening");
+    }
+
     public boolean canViewFull(UserId actorId, Program program, Screening screening) {
         if (actorId == null) return false;
 
@@ -1,14 +1,20 @@
 package com.cinema.application.users;
 
 import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.Exceptions.ServiceUnavailableException;
+import com.cinema.domain.Exceptions.TooManyRequestsException;
 import com.cinema.domain.entity.User;
 import com.cinema.domain.entity.value.Username;
+import com.cinema.domain.port.PasswordHasher;
 import com.cinema.domain.port.UserRepository;
 import com.cinema.infrastructure.security.AuditLogger;
+import com.cinema.infrastructure.security.LoginAttemptLimiter;
+import com.cinema.infrastructure.security.SessionRegistry;
 import com.cinema.infrastructure.security.TokenService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Objects;
 
 @Service
@@ -17,20 +23,29 @@ public class AuthenticateUserUseCase {
     private final UserRepository userRepository;
     private final TokenService tokenService;
     private final AuditLogger auditLogger;
+    private final PasswordHasher passwordHasher;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final SessionRegistry sessionRegistry;
 
     public AuthenticateUserUseCase(
             UserRepository userRepository,
             TokenService tokenService,
-            AuditLogger auditLogger
+            AuditLogger auditLogger,
+            PasswordHasher passwordHasher,
+            LoginAttemptLimiter loginAttemptLimiter,
+            SessionRegistry sessionRegistry
     ) {
         this.userRepository = Objects.requireNonNull(userRepository);
         this.tokenService = Objects.requireNonNull(tokenService);
         this.auditLogger = Objects.requireNonNull(auditLogger);
+        this.passwordHasher = Objects.requireNonNull(passwordHasher);
+        this.loginAttemptLimiter = Objects.requireNonNull(loginAttemptLimiter);
+        this.sessionRegistry = Objects.requireNonNull(sessionRegistry);
     }
 
 
     @Transactional
-    public String authenticate(String rawUsername, String rawPassword) {
+    public TokenService.IssuedTokens authenticate(String rawUsername, String rawPassword, String clientIp) {
 
         String normalizedUsername = rawUsername == null ? null : rawUsername.trim();
 
@@ -40,13 +55,22 @@ public class AuthenticateUserUseCase {
             throw new AuthorizationException("Invalid username or password");
         }
 
+
+        long retryAfter = loginAttemptLimiter.tryAcquire(normalizedUsername, clientIp);
+        if (retryAfter > 0) {
+            throw new TooManyRequestsException("Too many login attempts, try again later", retryAfter);
+        }
+
         Username username = Username.of(normalizedUsername);
 
-        User user = userRepository.findByUserName(username)
-                .orElseThrow(() -> new AuthorizationException("Invalid username or password"));
+        User user = userRepository.findByUserName(username).orElse(null);
+        if (user == null) {
+            loginAttemptLimiter.recordFailure(normalizedUsername);
+            throw new AuthorizationException("Invalid username or password");
+        }
 
         if (!user.isActive()) {
-            auditLogger.logAction(
+            auditLogger.logFailure(
                     user.id(),
                     "LOGIN_FAILED_INACTIVE",
                     "Authentication blocked: inactive account"
@@ -55,21 +79,18 @@ public class AuthenticateUserUseCase {
         }
 
 
-        if (!user.password().matches(rawPassword)) {
-            user.registerFailedLogin();
-            userRepository.Save(user);
-
-            if (!user.isActive()) {
+        if (!passwordHasher.matches(user.password(), rawPassword)) {
+            if (loginAttemptLimiter.recordFailure(normalizedUsername)) {
 
-                auditLogger.logAction(
+                auditLogger.logFailure(
                         user.id(),
-                        "LOGIN_DEACTIVATED",
-                        "Account deactivated after 3 consecutive failed authentication attempts"
+                        "LOGIN_LOCKED",
+                        "Login temporarily locked after repeated failed authentication attempts"
                 );
-                throw new AuthorizationException("Account deactivated after 3 failed attempts");
+                throw new AuthorizationException("Too many failed attempts; login is temporarily locked");
             }
 
-            auditLogger.logAction(
+            auditLogger.logFailure(
                     user.id(),
                     "LOGIN_FAILED",
                     "Invalid username or password"
@@ -78,15 +99,33 @@ public class AuthenticateUserUseCase {
         }
 
 
-        TokenService.IssuedToken issued = tokenService.generateToken(user);
+        loginAttemptLimiter.recordSuccess(normalizedUsername);
+        rehashIfNeeded(user, rawPassword);
 
+        TokenService.IssuedTokens issued = tokenService.startSession(user);
+
+        sessionRegistry.open(user.id(), issued.sessionId(), issued.refreshJti(), issued.refreshExpiresAt())
+                .forEach(evicted -> auditLogger.logAction(
+                        user.id(),
+                        "SESSION_EVICTED",
+                        "sessionId=" + evicted.sessionId()
+                ));
 
 
-        user.startSession(issued.jti());
-        userRepository.Save(user);
+        userRepository.recordLogin(user.id(), Instant.now());
 
         auditLogger.logLogin(user.id());
 
-        return issued.token();
+        return issued;
+    }
+
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordHasher.needsRehash(user.password())) return;
+        try {
+            user.rehashPassword(passwordHasher.hash(rawPassword));
+            userRepository.Save(user);
+        } catch (ServiceUnavailableException busy) {
+            // keep the current hash; it is upgraded on a later login
+        }
     }
 }
@@ -2,13 +2,18 @@ package com.cinema.application.users;
 
 import com.cinema.domain.Exceptions.AuthorizationException;
 import com.cinema.domain.Exceptions.NotFoundException;
+import com.cinema.domain.Exceptions.TooManyRequestsException;
 import com.cinema.domain.Exceptions.ValidationException;
 import com.cinema.domain.entity.User;
 import com.cinema.domain.entity.value.HashedPassword;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.policy.PasswordPolicy;
+import com.cinema.domain.port.PasswordHasher;
 import com.cinema.domain.port.UserRepository;
 import com.cinema.infrastructure.security.AuditLogger;
+import com.cinema.infrastructure.security.LoginAttemptLimiter;
+import com.cinema.infrastructure.security.RevocationEpochs;
+import com.cinema.infrastructure.security.SessionRegistry;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,15 +25,27 @@ public class ChangePasswordUseCase {
     private final UserRepository userRepository;
     private final PasswordPolicy passwordPolicy;
     private final AuditLogger auditLogger;
+    private final PasswordHasher passwordHasher;
+    private final SessionRegistry sessionRegistry;
+    private final RevocationEpochs revocationEpochs;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
     public ChangePasswordUseCase(
             UserRepository userRepository,
             PasswordPolicy passwordPolicy,
-            AuditLogger auditLogger
+            AuditLogger auditLogger,
+            PasswordHasher passwordHasher,
+            SessionRegistry sessionRegistry,
+            RevocationEpochs revocationEpochs,
+            LoginAttemptLimiter loginAttemptLimiter
     ) {
         this.userRepository = Objects.requireNonNull(userRepository);
         this.passwordPolicy = Objects.requireNonNull(passwordPolicy);
         this.auditLogger = Objects.requireNonNull(auditLogger);
+        this.passwordHasher = Objects.requireNonNull(passwordHasher);
+        this.sessionRegistry = Objects.requireNonNull(sessionRegistry);
+        this.revocationEpochs = Objects.requireNonNull(revocationEpochs);
+        this.loginAttemptLimiter = Objects.requireNonNull(loginAttemptLimiter);
     }
 
 
@@ -37,7 +54,8 @@ public class ChangePasswordUseCase {
             UserId userId,
             String currentPassword,
             String newPassword,
-            String newPasswordRepeat
+            String newPasswordRepeat,
+            String clientIp
     ) {
         if (userId == null) throw new AuthorizationException("Unauthorized");
 
@@ -54,40 +72,44 @@ public class ChangePasswordUseCase {
         }
 
 
-        user.invalidateSession();
-
-
         if (!newPassword.equals(newPasswordRepeat)) {
-            userRepository.Save(user);
-            auditLogger.logAction(user.id(), "CHANGE_PASSWORD_FAILED", "new_password_mismatch");
+            auditLogger.logFailure(user.id(), "CHANGE_PASSWORD_FAILED", "new_password_mismatch");
             throw new ValidationException("User","New passwords do not match");
         }
 
 
-        if (!user.password().matches(currentPassword)) {
-            user.registerFailedLogin();
-            userRepository.Save(user);
+        // the current-password check is a login in disguise, so it shares the login budget and lockout
+        String username = user.username().value();
+        long retryAfter = loginAttemptLimiter.tryAcquire(username, clientIp);
+        if (retryAfter > 0) {
+            throw new TooManyRequestsException("Too many password attempts, try again later", retryAfter);
+        }
 
-            if (!user.isActive()) {
-                auditLogger.logAction(user.id(), "CHANGE_PASSWORD_DEACTIVATED", "3_failed_old_password_attempts");
-                throw new AuthorizationException("Account deactivated after 3 failed attempts");
+        if (!passwordHasher.matches(user.password(), currentPassword)) {
+            if (loginAttemptLimiter.recordFailure(username)) {
+                auditLogger.logFailure(user.id(), "CHANGE_PASSWORD_LOCKED", "repeated_invalid_current_password");
+                throw new AuthorizationException("Too many failed attempts; password change is temporarily locked");
             }
 
-            auditLogger.logAction(user.id(), "CHANGE_PASSWORD_FAILED", "invalid_current_password");
+            auditLogger.logFailure(user.id(), "CHANGE_PASSWORD_FAILED", "invalid_current_password");
             throw new AuthorizationException("Current password is invalid");
         }
 
+        loginAttemptLimiter.recordSuccess(username);
+
 
         passwordPolicy
                 .validate(newPassword, user.username(), user.fullName())
                 .ensureValid();
 
-        HashedPassword newHash = HashedPassword.fromRaw(newPassword);
+        HashedPassword newHash = passwordHasher.hash(newPassword);
 
 
         user.changePassword(newHash);
 
         userRepository.Save(user);
+        sessionRegistry.closeAll(user.id());
+        revocationEpochs.revokeUser(user.id());
 
         auditLogger.logAction(user.id(), "CHANGE_PASSWORD", "success");
     }
@@ -6,6 +6,7 @@ import com.cinema.domain.Exceptions.ValidationException;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.port.UserRepository;
 import com.cinema.domain.enums.BaseRole;
+import com.cinema.infrastructure.security.SessionRegistry;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
@@ -15,9 +16,11 @@ import java.util.Objects;
 public class DeactivateUserUseCase {
 
     private final UserRepository userRepository;
+    private final SessionRegistry sessionRegistry;
 
-    public DeactivateUserUseCase(UserRepository userRepository) {
+    public DeactivateUserUseCase(UserRepository userRepository, SessionRegistry sessionRegistry) {
         this.userRepository = Objects.requireNonNull(userRepository);
+        this.sessionRegistry = Objects.requireNonNull(sessionRegistry);
     }
 
 
@@ -45,5 +48,6 @@ public class DeactivateUserUseCase {
 
         target.deactivate();
         userRepository.Save(target);
+        sessionRegistry.closeAll(target.id());
     }
 }
@@ -6,6 +6,7 @@ import com.cinema.domain.Exceptions.ValidationException;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.port.UserRepository;
 import com.cinema.domain.enums.BaseRole;
+import com.cinema.infrastructure.security.SessionRegistry;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
@@ -15,9 +16,11 @@ import java.util.Objects;
 public class DeleteUserUseCase {
 
     private final UserRepository userRepository;
+    private final SessionRegistry sessionRegistry;
 
-    public DeleteUserUseCase(UserRepository userRepository) {
+    public DeleteUserUseCase(UserRepository userRepository, SessionRegistry sessionRegistry) {
         this.userRepository = Objects.requireNonNull(userRepository);
+        this.sessionRegistry = Objects.requireNonNull(sessionRegistry);
     }
 
 
@@ -40,6 +43,7 @@ public class DeleteUserUseCase {
             throw new AuthorizationException("ADMIN cannot delete their own account");
         }
 
+        sessionRegistry.closeAll(targetUserId);
         userRepository.deleteById(targetUserId);
     }
 }
@@ -8,6 +8,8 @@ import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.enums.BaseRole;
 import com.cinema.domain.port.UserRepository;
 import com.cinema.infrastructure.security.AuditLogger;
+import com.cinema.infrastructure.security.RevocationEpochs;
+import com.cinema.infrastructure.security.SessionRegistry;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,23 +20,32 @@ public class LogoutUseCase {
 
     private final AuditLogger auditLogger;
     private final UserRepository userRepository;
-
-    public LogoutUseCase(AuditLogger auditLogger, UserRepository userRepository) {
+    private final SessionRegistry sessionRegistry;
+    private final RevocationEpochs revocationEpochs;
+
+    public LogoutUseCase(
+            AuditLogger auditLogger,
+            UserRepository userRepository,
+            SessionRegistry sessionRegistry,
+            RevocationEpochs revocationEpochs
+    ) {
         this.auditLogger = Objects.requireNonNull(auditLogger);
         this.userRepository = Objects.requireNonNull(userRepository);
+        this.sessionRegistry = Objects.requireNonNull(sessionRegistry);
+        this.revocationEpochs = Objects.requireNonNull(revocationEpochs);
     }
 
 
     @Transactional
-    public void logoutSelf(UserId actorId) {
+    public void logoutSelf(UserId actorId, String sessionId) {
         if (actorId == null) throw new AuthorizationException("Unauthorized");
 
         User actor = userRepository.findById(actorId)
                 .orElseThrow(() -> new NotFoundException("User", "User not found"));
 
 
-        actor.invalidateSession();
-        userRepository.Save(actor);
+        if (sessionId != null) sessionRegistry.close(actor.id(), sessionId);
+        else sessionRegistry.closeAll(actor.id());
 
         auditLogger.logAction(actorId, "LOGOUT", "self");
     }
@@ -64,8 +75,8 @@ public class LogoutUseCase {
             throw new AuthorizationException("Cannot force logout an ADMIN account");
         }
 
-        target.invalidateSession();
-        userRepository.Save(target);
+        revocationEpochs.revokeUser(target.id());
+        sessionRegistry.closeAll(target.id());
 
         auditLogger.logAction(adminId, "FORCE_LOGOUT", "userId=" + targetUserId.value());
     }
@@ -0,0 +1,74 @@
+package com.cinema.application.users;
+
+import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.Exceptions.NotFoundException;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.entity.User;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.BaseRole;
+import com.cinema.domain.port.SessionRepository.Session;
+import com.cinema.domain.port.UserRepository;
+import com.cinema.infrastructure.security.AuditLogger;
+import com.cinema.infrastructure.security.SessionRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class ManageSessionsUseCase {
+
+    private final UserRepository userRepository;
+    private final SessionRegistry sessionRegistry;
+    private final AuditLogger auditLogger;
+
+    public ManageSessionsUseCase(
+            UserRepository userRepository,
+            SessionRegistry sessionRegistry,
+            AuditLogger auditLogger
+    ) {
+        this.userRepository = Objects.requireNonNull(userRepository);
+        this.sessionRegistry = Objects.requireNonNull(sessionRegistry);
+        this.auditLogger = Objects.requireNonNull(auditLogger);
+    }
+
+
+    @Transactional(readOnly = true)
+    public List<Session> list(UserId adminId, UserId targetUserId) {
+        requireAdmin(adminId);
+        if (targetUserId == null) throw new ValidationException("userId", "userId is required");
+
+        userRepository.findById(targetUserId)
+                .orElseThrow(() -> new NotFoundException("User", "User not found"));
+
+        return sessionRegistry.list(targetUserId);
+    }
+
+    @Transactional
+    public void kill(UserId adminId, UserId targetUserId, String sessionId) {
+        requireAdmin(adminId);
+        if (targetUserId == null) throw new ValidationException("userId", "userId is required");
+        if (sessionId == null || sessionId.isBlank()) throw new ValidationException("sessionId", "sessionId is required");
+
+        if (!sessionRegistry.close(targetUserId, sessionId)) {
+            throw new NotFoundException("Session", "Session not found");
+        }
+
+        auditLogger.logAction(adminId, "KILL_SESSION", "userId=" + targetUserId.value() + ",sessionId=" + sessionId);
+    }
+
+    private void requireAdmin(UserId adminId) {
+        if (adminId == null) throw new AuthorizationException("Unauthorized");
+
+        User admin = userRepository.findById(adminId)
+                .orElseThrow(() -> new NotFoundException("User", "Admin not found"));
+
+        if (admin.baseRole() != BaseRole.ADMIN) {
+            throw new AuthorizationException("Only ADMIN can manage sessions");
+        }
+        if (!admin.isActive()) {
+            throw new AuthorizationException("Account is inactive");
+        }
+    }
+}
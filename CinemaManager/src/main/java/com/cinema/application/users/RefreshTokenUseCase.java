@@ -0,0 +1,89 @@
+package com.cinema.application.users;
+
+import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.entity.User;
+import com.cinema.domain.port.UserRepository;
+import com.cinema.infrastructure.security.AuditLogger;
+import com.cinema.infrastructure.security.RevocationEpochs;
+import com.cinema.infrastructure.security.SessionRegistry;
+import com.cinema.infrastructure.security.TokenService;
+import com.cinema.infrastructure.security.TokenValidator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+@Service
+public class RefreshTokenUseCase {
+
+    private final TokenValidator tokenValidator;
+    private final TokenService tokenService;
+    private final SessionRegistry sessionRegistry;
+    private final RevocationEpochs revocationEpochs;
+    private final UserRepository userRepository;
+    private final AuditLogger auditLogger;
+
+    public RefreshTokenUseCase(
+            TokenValidator tokenValidator,
+            TokenService tokenService,
+            SessionRegistry sessionRegistry,
+            RevocationEpochs revocationEpochs,
+            UserRepository userRepository,
+            AuditLogger auditLogger
+    ) {
+        this.tokenValidator = Objects.requireNonNull(tokenValidator);
+        this.tokenService = Objects.requireNonNull(tokenService);
+        this.sessionRegistry = Objects.requireNonNull(sessionRegistry);
+        this.revocationEpochs = Objects.requireNonNull(revocationEpochs);
+        this.userRepository = Objects.requireNonNull(userRepository);
+        this.auditLogger = Objects.requireNonNull(auditLogger);
+    }
+
+
+    @Transactional(noRollbackFor = AuthorizationException.class)
+    public Result refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new ValidationException("refreshToken", "refreshToken is required");
+        }
+
+        TokenValidator.TokenData raw;
+        try {
+            raw = tokenValidator.validateRefresh(refreshToken.trim());
+        } catch (TokenValidator.ExpiredTokenException | TokenValidator.InvalidTokenException e) {
+            throw new AuthorizationException("Unauthorized: refresh token is invalid or expired");
+        }
+
+        if (!revocationEpochs.isCurrent(raw.userId(), raw.role(), raw.epochs())) {
+            throw new AuthorizationException("Unauthorized: refresh token has been revoked");
+        }
+
+        User user = userRepository.findById(raw.userId())
+                .orElseThrow(() -> new AuthorizationException("Unauthorized: refresh token is invalid or expired"));
+
+        if (!user.isActive()) {
+            throw new AuthorizationException("User is inactive");
+        }
+
+        if (!sessionRegistry.isActive(user.id(), raw.sessionId())) {
+            throw new AuthorizationException("Unauthorized: session is no longer active");
+        }
+
+
+        TokenService.IssuedTokens rotated = tokenService.rotate(user, raw.sessionId());
+
+
+        // a refresh token is single-use: the session row holds the one jti it will still redeem and the
+        // swap is a compare-and-set, so presenting a rotated token means it leaked and ends the session
+        if (!sessionRegistry.rotate(raw.sessionId(), raw.jti(), rotated.refreshJti(), rotated.refreshExpiresAt())) {
+            sessionRegistry.close(user.id(), raw.sessionId());
+
+            auditLogger.logFailure(user.id(), "REFRESH_REUSED", "session revoked");
+            throw new AuthorizationException("Unauthorized: refresh token reuse detected");
+        }
+
+        return new Result(user, rotated);
+    }
+
+    public record Result(User user, TokenService.IssuedTokens tokens) {}
+}
@@ -6,6 +6,7 @@ import com.cinema.domain.entity.value.HashedPassword;
 import com.cinema.domain.entity.value.Username;
 import com.cinema.domain.enums.BaseRole;
 import com.cinema.domain.policy.PasswordPolicy;
+import com.cinema.domain.port.PasswordHasher;
 import com.cinema.domain.port.UserRepository;
 import com.cinema.infrastructure.security.AuditLogger;
 import org.springframework.stereotype.Service;
@@ -18,15 +19,18 @@ public class RegisterUserUseCase {
     private final UserRepository userRepository;
     private final PasswordPolicy passwordPolicy;
     private final AuditLogger auditLogger;
+    private final PasswordHasher passwordHasher;
 
     public RegisterUserUseCase(
             UserRepository userRepository,
             PasswordPolicy passwordPolicy,
-            AuditLogger auditLogger
+            AuditLogger auditLogger,
+            PasswordHasher passwordHasher
     ) {
         this.userRepository = Objects.requireNonNull(userRepository);
         this.passwordPolicy = Objects.requireNonNull(passwordPolicy);
         this.auditLogger = Objects.requireNonNull(auditLogger);
+        this.passwordHasher = Objects.requireNonNull(passwordHasher);
     }
 
 
@@ -48,7 +52,7 @@ public class RegisterUserUseCase {
                 .validate(rawPassword, username, normalizedFullName)
                 .ensureValid();
 
-        HashedPassword hashedPassword = HashedPassword.fromRaw(rawPassword);
+        HashedPassword hashedPassword = passwordHasher.hash(rawPassword);
 
 
         User user = new User(
@@ -59,7 +63,6 @@ public class RegisterUserUseCase {
                 BaseRole.USER,
                 false,
                 0,
-                null,
                 null
         );
 
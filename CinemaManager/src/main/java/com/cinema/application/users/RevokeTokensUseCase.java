@@ -0,0 +1,77 @@
+package com.cinema.application.users;
+
+import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.Exceptions.NotFoundException;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.entity.User;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.BaseRole;
+import com.cinema.domain.port.UserRepository;
+import com.cinema.infrastructure.security.AuditLogger;
+import com.cinema.infrastructure.security.RevocationEpochs;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.Objects;
+
+@Service
+public class RevokeTokensUseCase {
+
+    private final UserRepository userRepository;
+    private final RevocationEpochs revocationEpochs;
+    private final AuditLogger auditLogger;
+
+    public RevokeTokensUseCase(
+            UserRepository userRepository,
+            RevocationEpochs revocationEpochs,
+            AuditLogger auditLogger
+    ) {
+        this.userRepository = Objects.requireNonNull(userRepository);
+        this.revocationEpochs = Objects.requireNonNull(revocationEpochs);
+        this.auditLogger = Objects.requireNonNull(auditLogger);
+    }
+
+
+    @Transactional
+    public long revokeAll(UserId adminId) {
+        requireAdmin(adminId);
+
+        long epoch = revocationEpochs.revokeAll();
+        auditLogger.logAction(adminId, "REVOKE_ALL_TOKENS", "epoch=" + epoch);
+        return epoch;
+    }
+
+    @Transactional
+    public long revokeRole(UserId adminId, String rawRole) {
+        requireAdmin(adminId);
+        BaseRole role = parseRole(rawRole);
+
+        long epoch = revocationEpochs.revokeRole(role);
+        auditLogger.logAction(adminId, "REVOKE_ROLE_TOKENS", "role=" + role.name() + ",epoch=" + epoch);
+        return epoch;
+    }
+
+    private BaseRole parseRole(String rawRole) {
+        if (rawRole == null || rawRole.isBlank()) throw new ValidationException("role", "role is required");
+        try {
+            return BaseRole.valueOf(rawRole.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("role", "Unknown role: " + rawRole);
+        }
+    }
+
+    private void requireAdmin(UserId adminId) {
+        if (adminId == null) throw new AuthorizationException("Unauthorized");
+
+        User admin = userRepository.findById(adminId)
+                .orElseThrow(() -> new NotFoundException("User", "Admin not found"));
+
+        if (admin.baseRole() != BaseRole.ADMIN) {
+            throw new AuthorizationException("Only ADMIN can revoke tokens");
+        }
+        if (!admin.isActive()) {
+            throw new AuthorizationException("Account is inactive");
+        }
+    }
+}
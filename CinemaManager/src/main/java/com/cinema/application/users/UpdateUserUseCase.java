@@ -10,6 +10,7 @@ import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.entity.value.Username;
 import com.cinema.domain.port.UserRepository;
 import com.cinema.infrastructure.security.AuditLogger;
+import com.cinema.infrastructure.security.SessionRegistry;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,15 +22,18 @@ public class UpdateUserUseCase {
     private final UserRepository userRepository;
     private final AuditLogger auditLogger;
     private final OwnershipGuard ownershipGuard;
+    private final SessionRegistry sessionRegistry;
 
     public UpdateUserUseCase(
             UserRepository userRepository,
             AuditLogger auditLogger,
-            OwnershipGuard ownershipGuard
+            OwnershipGuard ownershipGuard,
+            SessionRegistry sessionRegistry
     ) {
         this.userRepository = Objects.requireNonNull(userRepository);
         this.auditLogger = Objects.requireNonNull(auditLogger);
         this.ownershipGuard = Objects.requireNonNull(ownershipGuard);
+        this.sessionRegistry = Objects.requireNonNull(sessionRegistry);
     }
 
 
@@ -85,6 +89,7 @@ public class UpdateUserUseCase {
 
 
                     target.changeUsername(candidate);
+                    sessionRegistry.closeAll(target.id());
                 }
             }
         }
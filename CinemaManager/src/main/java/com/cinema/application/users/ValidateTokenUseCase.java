@@ -1,11 +1,9 @@
 package com.cinema.application.users;
 
 import com.cinema.domain.Exceptions.AuthorizationException;
-import com.cinema.domain.Exceptions.NotFoundException;
 import com.cinema.domain.Exceptions.ValidationException;
-import com.cinema.domain.entity.User;
-import com.cinema.domain.port.UserRepository;
-import com.cinema.infrastructure.security.TokenService;
+import com.cinema.infrastructure.security.RevocationEpochs;
+import com.cinema.infrastructure.security.SessionRegistry;
 import com.cinema.infrastructure.security.TokenValidator;
 import org.springframework.stereotype.Service;
 
@@ -15,15 +13,15 @@ import java.util.Objects;
 public class ValidateTokenUseCase {
 
     private final TokenValidator tokenValidator;
-    private final TokenService tokenService;
-    private final UserRepository userRepository;
+    private final SessionRegistry sessionRegistry;
+    private final RevocationEpochs revocationEpochs;
 
     public ValidateTokenUseCase(TokenValidator tokenValidator,
-                                TokenService tokenService,
-                                UserRepository userRepository) {
+                                SessionRegistry sessionRegistry,
+                                RevocationEpochs revocationEpochs) {
         this.tokenValidator = Objects.requireNonNull(tokenValidator);
-        this.tokenService = Objects.requireNonNull(tokenService);
-        this.userRepository = Objects.requireNonNull(userRepository);
+        this.sessionRegistry = Objects.requireNonNull(sessionRegistry);
+        this.revocationEpochs = Objects.requireNonNull(revocationEpochs);
     }
 
 
@@ -33,30 +31,22 @@ public class ValidateTokenUseCase {
         }
 
 
-        if (tokenService.isInvalidated(token)) {
-            throw new AuthorizationException("TOKEN_REVOKED: Token invalidated");
-        }
-
-
         TokenValidator.TokenData raw = tokenValidator.validate(token);
 
-        User user = userRepository.findById(raw.userId())
-                .orElseThrow(() -> new NotFoundException("User", "User not found"));
-
-        if (!user.isActive()) {
-            throw new AuthorizationException("ACCOUNT_INACTIVE: Account inactive");
+        // deactivation and role changes bump the user's epoch, deletion closes every session
+        if (!revocationEpochs.isCurrent(raw.userId(), raw.role(), raw.epochs())) {
+            throw new AuthorizationException("TOKEN_REVOKED: Token invalidated");
         }
 
 
-        String currentJti = user.currentJti();
-        if (currentJti == null || !currentJti.equals(raw.jti())) {
+        if (!sessionRegistry.isActive(raw.userId(), raw.sessionId())) {
             throw new AuthorizationException("TOKEN_REVOKED: Token is not current");
         }
 
 
         return new TokenData(
-                user.id().value(),
-                user.baseRole().name(),
+                raw.userId().value(),
+                raw.role().name(),
                 raw.jti()
         );
     }
@@ -0,0 +1,15 @@
+package com.cinema.domain.Exceptions;
+
+public class ServiceUnavailableException extends DomainException{
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds){
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long retryAfterSeconds(){
+        return retryAfterSeconds;
+    }
+}
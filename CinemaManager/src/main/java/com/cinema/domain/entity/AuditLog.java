@@ -4,18 +4,25 @@ import java.time.Instant;
 
 public class AuditLog {
 
+    private final Long id;
     private final Long actorUserId;
     private final String action;
     private final String target;
     private final Instant timestamp;
 
     public AuditLog(Long actorUserId, String action, String target, Instant timestamp) {
+        this(null, actorUserId, action, target, timestamp);
+    }
+
+    public AuditLog(Long id, Long actorUserId, String action, String target, Instant timestamp) {
+        this.id = id;
         this.actorUserId = actorUserId;
         this.action = action;
         this.target = target;
         this.timestamp = timestamp;
     }
 
+    public Long id() { return id; }
     public Long actorUserId() { return actorUserId; }
     public String action() { return action; }
     public String target() { return target; }
@@ -219,11 +219,15 @@ public class Screening {
     }
 
     public void reject(String reason) {
-        if (reason == null || reason.isBlank()) throw new IllegalArgumentException("rejection reason required");
-        this.rejectionReason = reason.trim();
+        this.rejectionReason = requireRejectionReason(reason);
         state = ScreeningState.REJECTED;
     }
 
+    public static String requireRejectionReason(String reason) {
+        if (reason == null || reason.isBlank()) throw new IllegalArgumentException("rejection reason required");
+        return reason.trim();
+    }
+
     public void withdraw() {
         if (state != ScreeningState.CREATED && state != ScreeningState.SUBMITTED) {
             throw new IllegalStateException("Only CREATED or SUBMITTED screenings can be withdrawn");
@@ -18,8 +18,6 @@ public class User {
     private boolean active;
     private int failedAttempts;
 
-
-    private String currentJti;
     private Instant lastLoginAt;
 
     public User(
@@ -30,7 +28,6 @@ public class User {
             BaseRole baseRole,
             boolean active,
             int failedAttempts,
-            String currentJti,
             Instant lastLoginAt
     ) {
         if (username == null) throw new IllegalArgumentException("Username cannot be null");
@@ -44,7 +41,6 @@ public class User {
         this.baseRole = baseRole;
         this.active = active;
         this.failedAttempts = failedAttempts;
-        this.currentJti = currentJti;
         this.lastLoginAt = lastLoginAt;
     }
 
@@ -57,18 +53,17 @@ public class User {
     public void changeUsername(Username newUsername) {
         if (newUsername == null) throw new IllegalArgumentException("Username cannot be null");
         this.username = newUsername;
-
-
-        invalidateSession();
     }
 
     public void changePassword(HashedPassword newPassword) {
         if (newPassword == null) throw new IllegalArgumentException("Password cannot be null");
         this.password = newPassword;
         this.failedAttempts = 0;
+    }
 
-
-        invalidateSession();
+    public void rehashPassword(HashedPassword rehashed) {
+        if (rehashed == null) throw new IllegalArgumentException("Password cannot be null");
+        this.password = rehashed;
     }
 
     public void changeRole(BaseRole newRole) {
@@ -83,36 +78,14 @@ public class User {
 
     public void deactivate() {
         this.active = false;
-
-
-        invalidateSession();
     }
 
 
-    public void registerFailedLogin() {
-        this.failedAttempts++;
-        if (this.failedAttempts >= 3) {
-            deactivate();
-        }
-    }
-
     public void resetFailedAttempts() {
         this.failedAttempts = 0;
     }
 
 
-    public void startSession(String jti) {
-        if (jti == null || jti.isBlank()) throw new IllegalArgumentException("jti cannot be blank");
-        this.currentJti = jti;
-        this.lastLoginAt = Instant.now();
-        this.failedAttempts = 0;
-    }
-
-    public void invalidateSession() {
-        this.currentJti = null;
-    }
-
-
     public UserId id() { return id; }
     public BaseRole baseRole() { return baseRole; }
     public Username username() { return username; }
@@ -120,7 +93,5 @@ public class User {
     public String fullName() { return fullName; }
     public boolean isActive() { return active; }
     public int failedAttempts() { return failedAttempts; }
-
-    public String currentJti() { return currentJti; }
     public Instant lastLoginAt() { return lastLoginAt; }
 }
@@ -5,17 +5,32 @@ import org.springframework.security.crypto.bcrypt.BCrypt;
 
 public record HashedPassword(String value) {
 
+    public static final int DEFAULT_COST = 10;
+
     public HashedPassword{
         if(value == null || value.isBlank()) throw new IllegalArgumentException("Password hash must not be null or blank");
     }
 
     public static HashedPassword fromRaw(String rawPassword){
+        return fromRaw(rawPassword, DEFAULT_COST);
+    }
+
+    public static HashedPassword fromRaw(String rawPassword, int cost){
         if(rawPassword == null || rawPassword.isBlank()) throw new IllegalArgumentException("Password must not be blank");
+        if(cost < 4 || cost > 31) throw new IllegalArgumentException("BCrypt cost must be between 4 and 31");
 
-        String hashed = BCrypt.hashpw(rawPassword, BCrypt.gensalt(10));
+        String hashed = BCrypt.hashpw(rawPassword, BCrypt.gensalt(cost));
         return new HashedPassword(hashed);
     }
 
+    public int cost() {
+        if (value.length() < 7 || value.charAt(0) != '$' || value.charAt(3) != '$' || value.charAt(6) != '$') return -1;
+        char tens = value.charAt(4);
+        char units = value.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(units)) return -1;
+        return (tens - '0') * 10 + (units - '0');
+    }
+
     public boolean matches(String rawPassword) {
         return rawPassword != null && BCrypt.checkpw(rawPassword, value);
     }
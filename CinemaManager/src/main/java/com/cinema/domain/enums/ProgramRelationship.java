@@ -0,0 +1,8 @@
+package com.cinema.domain.enums;
+
+public enum ProgramRelationship {
+    CREATOR,
+    PROGRAMMER,
+    STAFF,
+    SUBMITTER
+}
@@ -2,17 +2,40 @@ package com.cinema.domain.policy;
 
 import java.time.Duration;
 
-public record RateLimitPolicy(int maxFailedLoginAttempts , Duration lockoutDuration , int loginAttemptsPerMinute) {
+public record RateLimitPolicy(
+        int maxFailedLoginAttempts ,
+        Duration lockoutDuration ,
+        int loginAttemptsPerMinute,
+        Budget loginBudget,
+        Budget publicReadBudget,
+        Budget authenticatedWriteBudget
+) {
 
     public RateLimitPolicy {
         if (maxFailedLoginAttempts <= 0) throw new IllegalArgumentException("maxFailedLoginAttempts must be > 0");
         if (lockoutDuration == null || lockoutDuration.isNegative() || lockoutDuration.isZero()) throw new IllegalArgumentException("lockoutDuration must be positive");
         if (loginAttemptsPerMinute <= 0) throw new IllegalArgumentException("loginAttemptsPerMinute must be > 0");
+        if (loginBudget == null || publicReadBudget == null || authenticatedWriteBudget == null) throw new IllegalArgumentException("route budgets are required");
     }
 
 
     public static RateLimitPolicy defaults() {
-        return new RateLimitPolicy(5, Duration.ofMinutes(15), 20);
+        return new RateLimitPolicy(
+                5,
+                Duration.ofMinutes(15),
+                20,
+                new Budget(10, 20),
+                new Budget(120, 600),
+                new Budget(60, 120)
+        );
+    }
+
+
+    public record Budget(int burst, int perMinute) {
+        public Budget {
+            if (burst <= 0) throw new IllegalArgumentException("burst must be > 0");
+            if (perMinute <= 0) throw new IllegalArgumentException("perMinute must be > 0");
+        }
     }
 
 
@@ -0,0 +1,18 @@
+package com.cinema.domain.port;
+
+import com.cinema.domain.entity.AuditLog;
+import com.cinema.domain.port.AuditLogRepository.AuditCursor;
+import com.cinema.domain.port.AuditLogRepository.AuditQuery;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface AuditArchive {
+
+    List<AuditLog> search(AuditQuery query, AuditCursor after, int limit);
+
+    AuditCursor watermark();
+
+    void forEachInRange(Instant from, Instant to, AuditCursor upTo, Consumer<AuditLog> sink);
+}
@@ -1,13 +1,66 @@
-
 package com.cinema.domain.port;
 
+import com.cinema.domain.Exceptions.ValidationException;
 import com.cinema.domain.entity.AuditLog;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface AuditLogRepository {
 
     void save(AuditLog log);
 
+    void saveAll(List<AuditLog> logs);
+
     List<AuditLog> findLatest(int limit);
+
+    AuditPage search(AuditQuery query, AuditCursor after, int limit);
+
+    void forEachInRange(Instant from, Instant to, AuditCursor after, Consumer<AuditLog> sink);
+
+
+    record AuditQuery(Long actorUserId, String action, Instant from, Instant to) {
+
+        public static final AuditQuery ALL = new AuditQuery(null, null, null, null);
+    }
+
+    record AuditPage(List<AuditLog> items, AuditCursor next) {}
+
+
+    record AuditCursor(Instant timestamp, Long id) {
+
+        public AuditCursor {
+            if (timestamp == null || id == null) {
+                throw new IllegalArgumentException("cursor fields are required");
+            }
+        }
+
+        public static AuditCursor of(AuditLog log) {
+            return new AuditCursor(log.timestamp(), log.id());
+        }
+
+        public boolean isAfter(AuditLog log) {
+            int byTime = timestamp.compareTo(log.timestamp());
+            return byTime > 0 || (byTime == 0 && id > log.id());
+        }
+
+        public String encode() {
+            String raw = timestamp + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static AuditCursor decode(String token) {
+            if (token == null || token.isBlank()) return null;
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 2);
+                return new AuditCursor(Instant.parse(parts[0]), Long.valueOf(parts[1]));
+            } catch (RuntimeException ex) {
+                throw new ValidationException("cursor", "Invalid cursor");
+            }
+        }
+    }
 }
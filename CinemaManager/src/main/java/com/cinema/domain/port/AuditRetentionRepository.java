@@ -0,0 +1,14 @@
+package com.cinema.domain.port;
+
+import com.cinema.domain.entity.AuditLog;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface AuditRetentionRepository {
+
+    List<AuditLog> findOldest(Instant before, int limit);
+
+    int deleteByIds(Collection<Long> ids);
+}
@@ -0,0 +1,39 @@
+package com.cinema.domain.port;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+public interface AuditRollupRepository {
+
+    void add(Granularity granularity, List<Point> deltas);
+
+    List<Point> findSeries(Granularity granularity, String action, Instant from, Instant to);
+
+    int deleteOlderThan(Granularity granularity, Instant before);
+
+
+    record Point(String action, Instant bucketStart, long count) {}
+
+
+    enum Granularity {
+        MINUTE(Duration.ofMinutes(1)),
+        HOUR(Duration.ofHours(1)),
+        DAY(Duration.ofDays(1));
+
+        private final Duration length;
+
+        Granularity(Duration length) {
+            this.length = length;
+        }
+
+        public Duration length() {
+            return length;
+        }
+
+        public Instant bucketOf(Instant instant) {
+            long size = length.getSeconds();
+            return Instant.ofEpochSecond(Math.floorDiv(instant.getEpochSecond(), size) * size);
+        }
+    }
+}
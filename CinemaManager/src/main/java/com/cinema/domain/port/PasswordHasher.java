@@ -0,0 +1,12 @@
+package com.cinema.domain.port;
+
+import com.cinema.domain.entity.value.HashedPassword;
+
+public interface PasswordHasher {
+
+    HashedPassword hash(String rawPassword);
+
+    boolean matches(HashedPassword hashed, String rawPassword);
+
+    boolean needsRehash(HashedPassword hashed);
+}
@@ -1,12 +1,19 @@
 package com.cinema.domain.port;
 
+import com.cinema.domain.Exceptions.ValidationException;
 import com.cinema.domain.entity.Program;
 import com.cinema.domain.entity.value.ProgramId;
 import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramRelationship;
 import com.cinema.domain.enums.ProgramState;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProgramRepository {
@@ -15,15 +22,26 @@ public interface ProgramRepository {
 
     List<Program> findByCreator(UserId id);
 
-    List<Program> search(String nameContains , ProgramState state , LocalDate fromDate ,LocalDate toDate, int offset ,int limit);
+    List<Program> search(SearchFilter filter, SearchCursor after, int limit);
+
+
+    Optional<PublicProgram> findPublicById(ProgramId id);
+
+    List<PublicProgram> searchPublic(SearchFilter filter, SearchCursor after, int limit);
 
 
     boolean isProgrammer(ProgramId programId, UserId userId);
 
     boolean isStaff(ProgramId programId, UserId userId);
 
+    Map<ProgramId, ProgramRelationship> relationships(Collection<ProgramId> programIds, UserId userId);
+
+    Map<ProgramId, ProgramState> findStates(Collection<ProgramId> programIds);
+
     Program save(Program program);
 
+    boolean existsById(ProgramId id);
+
     boolean existsByName(String name);
 
     void addProgrammer(ProgramId programId, UserId userId);
@@ -32,4 +50,73 @@ public interface ProgramRepository {
 
     void deleteById(ProgramId id);
 
+
+    record SearchFilter(
+            String nameContains,
+            ProgramState state,
+            LocalDate fromDate,
+            LocalDate toDate,
+            LocalDate runningOn
+    ) {}
+
+
+    record PublicProgram(
+            Long id,
+            String name,
+            String description,
+            LocalDate startDate,
+            LocalDate endDate,
+            ProgramState state,
+            List<Long> programmerIds
+    ) {
+        public PublicProgram(Long id, String name, String description, LocalDate startDate, LocalDate endDate, ProgramState state) {
+            this(id, name, description, startDate, endDate, state, List.of());
+        }
+
+        public PublicProgram withProgrammerIds(List<Long> ids) {
+            return new PublicProgram(id, name, description, startDate, endDate, state, List.copyOf(ids));
+        }
+    }
+
+
+    record SearchCursor(LocalDate startDate, String lowerName, Long id) {
+
+        public SearchCursor {
+            if (startDate == null || lowerName == null || id == null) {
+                throw new IllegalArgumentException("cursor fields are required");
+            }
+        }
+
+        public static SearchCursor after(Program program) {
+            return new SearchCursor(
+                    program.startDate(),
+                    program.name().toLowerCase(Locale.ROOT),
+                    program.id().value()
+            );
+        }
+
+        public static SearchCursor after(PublicProgram program) {
+            return new SearchCursor(
+                    program.startDate(),
+                    program.name().toLowerCase(Locale.ROOT),
+                    program.id()
+            );
+        }
+
+        public String encode() {
+            String raw = startDate + "|" + id + "|" + lowerName;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static SearchCursor decode(String token) {
+            if (token == null || token.isBlank()) return null;
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 3);
+                return new SearchCursor(LocalDate.parse(parts[0]), parts[2], Long.valueOf(parts[1]));
+            } catch (RuntimeException ex) {
+                throw new ValidationException("cursor", "Invalid cursor");
+            }
+        }
+    }
 }
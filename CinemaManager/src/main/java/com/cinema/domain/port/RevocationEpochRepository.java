@@ -0,0 +1,10 @@
+package com.cinema.domain.port;
+
+import java.util.Map;
+
+public interface RevocationEpochRepository {
+
+    Map<String, Long> findAll();
+
+    long increment(String scope);
+}
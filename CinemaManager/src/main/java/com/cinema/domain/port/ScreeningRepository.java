@@ -1,35 +1,156 @@
 package com.cinema.domain.port;
 
+import com.cinema.domain.Exceptions.ValidationException;
 import com.cinema.domain.entity.Screening;
 import com.cinema.domain.entity.value.ProgramId;
 import com.cinema.domain.entity.value.ScreeningId;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.enums.ScreeningState;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface ScreeningRepository {
 
     Optional<Screening> findById(ScreeningId id);
 
+    List<Screening> findByIds(Collection<ScreeningId> ids);
 
-    List<Screening> findByProgram(ProgramId programId, int offset, int limit);
-    List<Screening> findByProgram(ProgramId programId, ScreeningState state, int offset, int limit);
-    List<Screening> findByProgramAndState(ProgramId programId, ScreeningState state);
 
+    FeedPage findByProgram(ProgramId programId, Visibility visibility, FeedCursor after, int limit);
+    FeedPage findByProgram(ProgramId programId, ScreeningState state, Visibility visibility, FeedCursor after, int limit);
+    int rejectAllInState(ProgramId programId, ScreeningState state, String reason);
 
-    List<Screening> findBySubmitter(UserId submitterId, int offset, int limit);
-    List<Screening> findBySubmitter(UserId submitterId, ScreeningState state, int offset, int limit);
 
+    FeedPage findBySubmitter(UserId submitterId, FeedCursor after, int limit);
+    FeedPage findBySubmitter(UserId submitterId, ScreeningState state, FeedCursor after, int limit);
 
-    List<Screening> findByStaffMember(UserId staffId, int offset, int limit);
+
+    FeedPage findByStaffMember(UserId staffId, FeedCursor after, int limit);
+
+
+    List<Screening> search(SearchQuery query, int offset, int limit);
+
+
+    Optional<PublicScreening> findPublicById(ScreeningId id);
+
+    List<PublicScreening> searchPublic(SearchQuery query, int offset, int limit);
+
+    PublicFeedPage findPublicByProgram(ProgramId programId, FeedCursor after, int limit);
+
+    boolean existsById(ScreeningId id);
 
     boolean existsByProgramIdAndSubmitterId(ProgramId programId, UserId submitterId);
 
+    Set<ProgramId> findProgramIdsWithSubmitter(Collection<ProgramId> programIds, UserId submitterId);
+
     long countByProgramAndState(ProgramId programId, ScreeningState state);
 
     Screening save(Screening screening);
 
     void deleteById(ScreeningId id);
+
+    void forEachInCatalog(LocalDate fromDate, LocalDate toDate, Consumer<CatalogRow> sink);
+
+
+    record SearchQuery(
+            ProgramId programId,
+            UserId submitterId,
+            UserId staffMemberId,
+            ScreeningState state,
+            List<String> titleWords,
+            List<String> genreWords,
+            LocalDate fromDate,
+            LocalDate toDate,
+            Visibility visibility,
+            SortOrder sort
+    ) {
+        public SearchQuery {
+            titleWords = (titleWords == null) ? List.of() : List.copyOf(titleWords);
+            genreWords = (genreWords == null) ? List.of() : List.copyOf(genreWords);
+            if (sort == null) sort = SortOrder.GENRE_TITLE;
+        }
+    }
+
+
+    record Visibility(UserId viewer, boolean includeAssignedToViewer, boolean includeScheduled) {}
+
+
+    record FeedPage(List<Screening> items, FeedCursor next) {}
+
+
+    record PublicScreening(
+            Long id,
+            Long programId,
+            String title,
+            String genre,
+            LocalDate scheduledTime,
+            String room
+    ) {
+        public PublicScreening(Long id, Long programId, String title, String genre, LocalDateTime startTime, String room) {
+            this(id, programId, title, genre, startTime != null ? startTime.toLocalDate() : null, room);
+        }
+    }
+
+
+    record PublicFeedPage(List<PublicScreening> items, FeedCursor next) {}
+
+
+    record CatalogRow(
+            Long id,
+            Long programId,
+            Long submitterId,
+            String title,
+            String genre,
+            String description,
+            String room,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            String state,
+            Long staffMemberId,
+            Integer reviewScore,
+            LocalDateTime createdTime,
+            LocalDateTime submittedTime,
+            LocalDateTime reviewedTime,
+            boolean finalLocked
+    ) {}
+
+
+    record FeedCursor(LocalDateTime createdTime, Long id) {
+
+        public FeedCursor {
+            if (createdTime == null || id == null) {
+                throw new IllegalArgumentException("cursor fields are required");
+            }
+        }
+
+        public String encode() {
+            String raw = createdTime + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static FeedCursor decode(String token) {
+            if (token == null || token.isBlank()) return null;
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 2);
+                return new FeedCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+            } catch (RuntimeException ex) {
+                throw new ValidationException("cursor", "Invalid cursor");
+            }
+        }
+    }
+
+
+    enum SortOrder {
+        GENRE_TITLE,
+        TIMETABLE
+    }
 }
@@ -0,0 +1,12 @@
+package com.cinema.domain.port;
+
+import com.cinema.domain.entity.value.ScreeningId;
+
+import java.util.List;
+
+public interface ScreeningSearchIndex {
+
+    List<ScreeningId> search(String text, ScreeningId before, int limit);
+
+    int size();
+}
@@ -0,0 +1,34 @@
+package com.cinema.domain.port;
+
+import com.cinema.domain.entity.value.UserId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface SessionRepository {
+
+    Optional<Session> findById(String sessionId);
+
+    // serializes session changes for one user until the surrounding transaction ends
+    void lockUser(UserId userId);
+
+    List<Session> findByUser(UserId userId);
+
+    Session Save(Session session);
+
+    // swaps the session's refresh jti only if it still holds presentedJti; false means it was already rotated
+    boolean rotateRefresh(String sessionId, String presentedJti, String nextJti, Instant expiresAt);
+
+    void deleteById(String sessionId);
+
+    int deleteExpired(Instant now);
+
+
+    record Session(String sessionId, UserId userId, Instant createdAt, Instant expiresAt, String refreshJti) {
+
+        public boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
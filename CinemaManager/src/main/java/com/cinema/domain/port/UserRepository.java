@@ -5,6 +5,7 @@ import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.entity.value.Username;
 import com.cinema.domain.enums.BaseRole;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,10 +20,8 @@ public interface UserRepository {
     long countByRole(BaseRole role);
 
     User Save(User user);
+    void recordLogin(UserId id, Instant at);
     void deleteById(UserId id);
 
     boolean existsByUsername(Username username);
-
-
-
 }
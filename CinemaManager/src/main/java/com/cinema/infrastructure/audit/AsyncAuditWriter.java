@@ -0,0 +1,247 @@
+package com.cinema.infrastructure.audit;
+
+import com.cinema.domain.entity.AuditLog;
+import com.cinema.domain.port.AuditLogRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class AsyncAuditWriter {
+
+    public enum OverflowPolicy { DROP_NEWEST, DROP_OLDEST, BLOCK, CALLER_RUNS }
+
+    private final AuditLogRepository repository;
+    private final TransactionTemplate tx;
+    private final Clock clock;
+
+    private final BlockingQueue<AuditLog> queue;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long blockTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+    private final OverflowPolicy overflowPolicy;
+
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder callerWrites = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final AtomicLong oldestPendingAt = new AtomicLong();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+
+    public AsyncAuditWriter(
+            AuditLogRepository repository,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            @Value("${audit.writer.queue-capacity:10000}") int capacity,
+            @Value("${audit.writer.batch-size:200}") int batchSize,
+            @Value("${audit.writer.flush-interval-millis:200}") long flushIntervalMillis,
+            @Value("${audit.writer.overflow-policy:block}") String overflowPolicy,
+            @Value("${audit.writer.block-timeout-millis:50}") long blockTimeoutMillis,
+            @Value("${audit.writer.shutdown-timeout-millis:5000}") long shutdownTimeoutMillis
+    ) {
+        if (capacity <= 0) throw new IllegalArgumentException("queue-capacity must be positive");
+        if (batchSize <= 0) throw new IllegalArgumentException("batch-size must be positive");
+        if (flushIntervalMillis <= 0) throw new IllegalArgumentException("flush-interval-millis must be positive");
+
+        this.repository = repository;
+        this.clock = clock;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        this.blockTimeoutMillis = Math.max(0, blockTimeoutMillis);
+        this.shutdownTimeoutMillis = Math.max(0, shutdownTimeoutMillis);
+
+        this.worker = new Thread(this::run, "audit-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+
+    public void submit(AuditLog log) {
+        if (!running) {
+            writeNow(log);
+            return;
+        }
+
+        if (queue.offer(log) || overflow(log)) {
+            enqueued.increment();
+            oldestPendingAt.compareAndSet(0, log.timestamp().toEpochMilli());
+        }
+    }
+
+    public Stats stats() {
+        long pendingSince = oldestPendingAt.get();
+        long currentLag = pendingSince == 0 ? 0 : Math.max(0, clock.millis() - pendingSince);
+
+        return new Stats(
+                queue.size(),
+                capacity,
+                overflowPolicy.name(),
+                enqueued.sum(),
+                written.sum(),
+                dropped.sum(),
+                failed.sum(),
+                callerWrites.sum(),
+                batches.sum(),
+                currentLag,
+                lastLagMillis.get(),
+                maxLagMillis.get()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            worker.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<AuditLog> late = new ArrayList<>();
+        queue.drainTo(late);
+        if (!late.isEmpty()) write(late);
+    }
+
+    private boolean overflow(AuditLog log) {
+        switch (overflowPolicy) {
+            case DROP_NEWEST -> {
+                dropped.increment();
+                return false;
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(log)) {
+                    if (queue.poll() != null) dropped.increment();
+                }
+                return true;
+            }
+            case BLOCK -> {
+                try {
+                    if (queue.offer(log, blockTimeoutMillis, TimeUnit.MILLISECONDS)) return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                dropped.increment();
+                return false;
+            }
+            default -> {
+                writeNow(log);
+                return false;
+            }
+        }
+    }
+
+    private void writeNow(AuditLog log) {
+        callerWrites.increment();
+        write(List.of(log));
+    }
+
+    private void run() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                AuditLog first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    if (batch.size() >= batchSize) break;
+
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+
+                    AuditLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException ignored) {
+                // the loop re-checks running; shutdown relies on the poll timeout, not on interrupts
+            }
+        }
+
+        // drain whatever is still queued before the data source goes away
+        queue.drainTo(batch);
+        while (!batch.isEmpty()) {
+            int end = Math.min(batchSize, batch.size());
+            flush(new ArrayList<>(batch.subList(0, end)));
+            batch.subList(0, end).clear();
+        }
+    }
+
+    private void flush(List<AuditLog> batch) {
+        if (batch.isEmpty()) return;
+
+        long lag = Math.max(0, clock.millis() - batch.get(0).timestamp().toEpochMilli());
+        lastLagMillis.set(lag);
+        maxLagMillis.accumulateAndGet(lag, Math::max);
+
+        write(batch);
+        batches.increment();
+        batch.clear();
+
+        AuditLog head = queue.peek();
+        oldestPendingAt.set(head == null ? 0 : head.timestamp().toEpochMilli());
+    }
+
+    private void write(List<AuditLog> logs) {
+        try {
+            tx.executeWithoutResult(status -> repository.saveAll(logs));
+            written.add(logs.size());
+        } catch (RuntimeException batchFailure) {
+            if (logs.size() == 1) {
+                failed.increment();
+                return;
+            }
+            // one bad row (e.g. its actor was deleted meanwhile) must not sink the whole batch
+            for (AuditLog log : logs) write(List.of(log));
+        }
+    }
+
+
+    public record Stats(
+            int queueDepth,
+            int queueCapacity,
+            String overflowPolicy,
+            long enqueued,
+            long written,
+            long dropped,
+            long failed,
+            long callerWrites,
+            long batches,
+            long currentLagMillis,
+            long lastBatchLagMillis,
+            long maxLagMillis
+    ) {}
+}
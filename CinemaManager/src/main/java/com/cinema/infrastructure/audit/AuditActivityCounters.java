@@ -0,0 +1,162 @@
+package com.cinema.infrastructure.audit;
+
+import com.cinema.domain.port.AuditRollupRepository;
+import com.cinema.domain.port.AuditRollupRepository.Granularity;
+import com.cinema.domain.port.AuditRollupRepository.Point;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class AuditActivityCounters {
+
+    private static final long PRUNE_INTERVAL_MILLIS = Duration.ofHours(1).toMillis();
+
+    private final AuditRollupRepository rollups;
+    private final TransactionTemplate tx;
+    private final Clock clock;
+    private final Duration minuteRetention;
+    private final Duration hourRetention;
+
+    private final Map<Bucket, Counter> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextPruneAt = new AtomicLong();
+
+    public AuditActivityCounters(
+            AuditRollupRepository rollups,
+            PlatformTransactionManager transactionManager,
+            Clock clock,
+            @Value("${audit.rollups.minute-retention-days:7}") long minuteRetentionDays,
+            @Value("${audit.rollups.hour-retention-days:90}") long hourRetentionDays
+    ) {
+        this.rollups = Objects.requireNonNull(rollups);
+        this.tx = new TransactionTemplate(transactionManager);
+        this.clock = Objects.requireNonNull(clock);
+        this.minuteRetention = Duration.ofDays(Math.max(1, minuteRetentionDays));
+        this.hourRetention = Duration.ofDays(Math.max(1, hourRetentionDays));
+    }
+
+
+    public void increment(String action, Instant at) {
+        add(new Bucket(action, Granularity.MINUTE.bucketOf(at)), 1);
+    }
+
+    // minute buckets not yet written to audit_rollups, so a series can include the last few minutes
+    public List<Point> pending(String action) {
+        List<Point> points = new ArrayList<>();
+        buckets.forEach((key, counter) -> {
+            long count = counter.get();
+            if (count >= 0 && (action == null || action.equals(key.action()))) {
+                points.add(new Point(key.action(), key.start(), count));
+            }
+        });
+        return points;
+    }
+
+    @Scheduled(
+            initialDelayString = "${audit.rollups.flush-interval-millis:60000}",
+            fixedDelayString = "${audit.rollups.flush-interval-millis:60000}"
+    )
+    public void flush() {
+        // the current and previous minute stay in memory; later increments still land, in a fresh counter
+        flushBefore(Granularity.MINUTE.bucketOf(clock.instant()).minus(Granularity.MINUTE.length()));
+        pruneIfDue();
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        flushBefore(Instant.MAX);
+    }
+
+    private void flushBefore(Instant cutoff) {
+        Map<Bucket, Long> drained = new HashMap<>();
+        for (Map.Entry<Bucket, Counter> e : buckets.entrySet()) {
+            if (!e.getKey().start().isBefore(cutoff)) continue;
+            if (buckets.remove(e.getKey(), e.getValue())) drained.put(e.getKey(), e.getValue().seal());
+        }
+        if (drained.isEmpty()) return;
+
+        try {
+            tx.executeWithoutResult(status -> {
+                for (Granularity granularity : Granularity.values()) {
+                    rollups.add(granularity, rollUp(drained, granularity));
+                }
+            });
+        } catch (RuntimeException e) {
+            // put the counts back and retry on the next flush rather than lose them
+            drained.forEach(this::add);
+            throw e;
+        }
+    }
+
+    // events are counted after their transaction commits, so an increment can race the flush of its minute;
+    // a sealed counter refuses it and the increment retries against a fresh one instead of being lost
+    private void add(Bucket key, long n) {
+        while (true) {
+            Counter counter = buckets.get(key);
+            if (counter == null) counter = buckets.computeIfAbsent(key, k -> new Counter());
+            if (counter.add(n)) return;
+            buckets.remove(key, counter);
+        }
+    }
+
+    private static List<Point> rollUp(Map<Bucket, Long> drained, Granularity granularity) {
+        Map<Bucket, Long> merged = new HashMap<>();
+        drained.forEach((key, count) ->
+                merged.merge(new Bucket(key.action(), granularity.bucketOf(key.start())), count, Long::sum));
+
+        List<Point> points = new ArrayList<>(merged.size());
+        merged.forEach((key, count) -> points.add(new Point(key.action(), key.start(), count)));
+        return points;
+    }
+
+    private void pruneIfDue() {
+        long now = clock.millis();
+        long due = nextPruneAt.get();
+        if (now < due || !nextPruneAt.compareAndSet(due, now + PRUNE_INTERVAL_MILLIS)) return;
+
+        Instant instant = clock.instant();
+        rollups.deleteOlderThan(Granularity.MINUTE, instant.minus(minuteRetention));
+        rollups.deleteOlderThan(Granularity.HOUR, instant.minus(hourRetention));
+    }
+
+
+    private record Bucket(String action, Instant start) {}
+
+
+    private static final class Counter {
+
+        private static final long SEALED = Long.MIN_VALUE;
+
+        private final AtomicLong count = new AtomicLong();
+
+        boolean add(long n) {
+            while (true) {
+                long current = count.get();
+                if (current == SEALED) return false;
+                if (count.compareAndSet(current, current + n)) return true;
+            }
+        }
+
+        long get() {
+            return count.get();
+        }
+
+        long seal() {
+            return count.getAndSet(SEALED);
+        }
+    }
+}
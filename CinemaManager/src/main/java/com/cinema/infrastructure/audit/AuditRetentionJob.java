@@ -0,0 +1,129 @@
+package com.cinema.infrastructure.audit;
+
+import com.cinema.domain.entity.AuditLog;
+import com.cinema.domain.port.AuditLogRepository.AuditCursor;
+import com.cinema.domain.port.AuditRetentionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@ConditionalOnProperty(name = "audit.store", havingValue = "jdbc", matchIfMissing = true)
+public class AuditRetentionJob {
+
+    private final AuditRetentionRepository repository;
+    private final FileAuditArchive archive;
+    private final AuditRetentionLock lock;
+    private final Clock clock;
+
+    private final boolean enabled;
+    private final Duration horizon;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public AuditRetentionJob(
+            AuditRetentionRepository repository,
+            FileAuditArchive archive,
+            AuditRetentionLock lock,
+            Clock clock,
+            @Value("${audit.retention.enabled:true}") boolean enabled,
+            @Value("${audit.retention.horizon-days:90}") long horizonDays,
+            @Value("${audit.retention.chunk-size:500}") int chunkSize,
+            @Value("${audit.retention.max-chunks-per-run:2000}") int maxChunksPerRun
+    ) {
+        if (horizonDays <= 0) throw new IllegalArgumentException("horizon-days must be positive");
+        if (chunkSize <= 0) throw new IllegalArgumentException("chunk-size must be positive");
+
+        this.repository = Objects.requireNonNull(repository);
+        this.archive = Objects.requireNonNull(archive);
+        this.lock = Objects.requireNonNull(lock);
+        this.clock = Objects.requireNonNull(clock);
+        this.enabled = enabled;
+        this.horizon = Duration.ofDays(horizonDays);
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = Math.max(1, maxChunksPerRun);
+    }
+
+
+    @Scheduled(
+            initialDelayString = "${audit.retention.initial-delay-millis:60000}",
+            fixedDelayString = "${audit.retention.interval-millis:3600000}"
+    )
+    public void scheduledRun() {
+        if (enabled) runOnce();
+    }
+
+    public Result runOnce() {
+        if (!running.compareAndSet(false, true)) return new Result(0, 0, 0);
+        try {
+            return archiveOlderThan(clock.instant().minus(horizon));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Result archiveOlderThan(Instant cutoff) {
+        int archived = 0;
+        int deleted = 0;
+        int chunks = 0;
+
+        // an export in progress reads the table after the watermark it saw; the rest waits for the next run
+        while (chunks < maxChunksPerRun && lock.retention().tryLock()) {
+            try {
+                List<AuditLog> oldest = repository.findOldest(cutoff, chunkSize);
+                if (oldest.isEmpty()) break;
+                chunks++;
+
+                // rows at or below the watermark were archived by a run that stopped before deleting them
+                AuditCursor mark = archive.watermark();
+                List<Long> ids = new ArrayList<>(oldest.size());
+                int i = 0;
+                while (i < oldest.size() && covers(mark, oldest.get(i))) {
+                    ids.add(oldest.get(i++).id());
+                }
+
+                // a chunk never crosses a day boundary, so every append lands in exactly one segment
+                if (i < oldest.size()) {
+                    LocalDate day = dayOf(oldest.get(i));
+                    int end = i;
+                    while (end < oldest.size() && dayOf(oldest.get(end)).equals(day)) end++;
+
+                    List<AuditLog> slice = oldest.subList(i, end);
+                    archive.append(day, slice);
+                    slice.forEach(log -> ids.add(log.id()));
+                    archived += slice.size();
+                }
+
+                deleted += repository.deleteByIds(ids);
+            } finally {
+                lock.retention().unlock();
+            }
+        }
+
+        return new Result(archived, deleted, chunks);
+    }
+
+    private static boolean covers(AuditCursor mark, AuditLog log) {
+        return mark != null && (mark.isAfter(log) || mark.id().equals(log.id()));
+    }
+
+    private static LocalDate dayOf(AuditLog log) {
+        return LocalDate.ofInstant(log.timestamp(), ZoneOffset.UTC);
+    }
+
+
+    public record Result(int archived, int deleted, int chunks) {}
+}
@@ -0,0 +1,22 @@
+package com.cinema.infrastructure.audit;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// exports share the read side for their whole run; retention only takes the write side per chunk, with tryLock
+@Component
+public class AuditRetentionLock {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public Lock exports() {
+        return lock.readLock();
+    }
+
+    public Lock retention() {
+        return lock.writeLock();
+    }
+}
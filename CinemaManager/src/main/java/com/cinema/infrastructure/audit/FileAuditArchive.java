@@ -0,0 +1,291 @@
+package com.cinema.infrastructure.audit;
+
+import com.cinema.domain.entity.AuditLog;
+import com.cinema.domain.port.AuditArchive;
+import com.cinema.domain.port.AuditLogRepository.AuditCursor;
+import com.cinema.domain.port.AuditLogRepository.AuditQuery;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class FileAuditArchive implements AuditArchive {
+
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".ndjson.gz";
+    private static final String STATE_FILE = "archive.state";
+
+    private final Path dir;
+    private final ObjectMapper json = new ObjectMapper();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile AuditCursor watermark;
+
+    public FileAuditArchive(@Value("${audit.archive.dir:data/audit-archive}") String dir) {
+        this.dir = Path.of(dir);
+        recover();
+    }
+
+
+    @Override
+    public AuditCursor watermark() {
+        return watermark;
+    }
+
+    // Appends one day's worth of rows, already sorted by (timestamp, id), as a new gzip member of that
+    // day's segment. A segment is only ever appended to, and the member is fsynced before the watermark moves.
+    public void append(LocalDate day, List<AuditLog> rows) {
+        if (rows.isEmpty()) return;
+
+        lock.writeLock().lock();
+        try {
+            Files.createDirectories(dir);
+            Path segment = segmentPath(day);
+            long offset = Files.exists(segment) ? Files.size(segment) : 0;
+
+            writeState(watermark, segment.getFileName().toString(), offset);
+
+            try (FileChannel channel = FileChannel.open(segment,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                GZIPOutputStream gzip = new GZIPOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+                Writer out = new OutputStreamWriter(gzip, StandardCharsets.UTF_8);
+                for (AuditLog log : rows) {
+                    out.write(json.writeValueAsString(Line.of(log)));
+                    out.write('\n');
+                }
+                out.flush();
+                gzip.finish();
+                channel.force(true);
+                out.close();
+            }
+
+            AuditCursor last = AuditCursor.of(rows.get(rows.size() - 1));
+            writeState(last, null, 0);
+            watermark = last;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append audit archive segment", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<AuditLog> search(AuditQuery query, AuditCursor after, int limit) {
+        AuditCursor mark = watermark;
+        if (mark == null || limit <= 0) return List.of();
+        if (query.from() != null && query.from().isAfter(mark.timestamp())) return List.of();
+
+        List<AuditLog> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (Path segment : segmentsNewestFirst()) {
+                LocalDate day = dayOf(segment);
+                Instant dayStart = day.atStartOfDay(ZoneOffset.UTC).toInstant();
+                Instant dayEnd = day.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+                if (query.to() != null && !dayStart.isBefore(query.to())) continue;
+                if (after != null && after.timestamp().isBefore(dayStart)) continue;
+                if (query.from() != null && !dayEnd.isAfter(query.from())) break;
+
+                result.addAll(newestMatches(segment, query, after, limit - result.size()));
+                if (result.size() >= limit) break;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public void forEachInRange(Instant from, Instant to, AuditCursor upTo, Consumer<AuditLog> sink) {
+        if (upTo == null) return;
+
+        List<Path> oldestFirst = new ArrayList<>(segmentsNewestFirst());
+        Collections.reverse(oldestFirst);
+
+        for (Path segment : oldestFirst) {
+            LocalDate day = dayOf(segment);
+            Instant dayStart = day.atStartOfDay(ZoneOffset.UTC).toInstant();
+            Instant dayEnd = day.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+            if (from != null && !dayEnd.isAfter(from)) continue;
+            if ((to != null && !dayStart.isBefore(to)) || upTo.timestamp().isBefore(dayStart)) break;
+
+            lock.readLock().lock();
+            try (BufferedReader in = open(segment)) {
+                String raw;
+                while ((raw = in.readLine()) != null) {
+                    if (raw.isEmpty()) continue;
+                    AuditLog log = json.readValue(raw, Line.class).toDomain();
+
+                    if (!upTo.isAfter(log) && !upTo.id().equals(log.id())) return;
+                    if (from != null && log.timestamp().isBefore(from)) continue;
+                    if (to != null && !log.timestamp().isBefore(to)) continue;
+                    sink.accept(log);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read audit archive segment " + segment.getFileName(), e);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    // rows inside a segment are ascending, so keep only the trailing `limit` matches and return them reversed
+    private List<AuditLog> newestMatches(Path segment, AuditQuery query, AuditCursor after, int limit) {
+        Deque<AuditLog> window = new ArrayDeque<>(limit);
+
+        try (BufferedReader in = open(segment)) {
+            String raw;
+            while ((raw = in.readLine()) != null) {
+                if (raw.isEmpty()) continue;
+                AuditLog log = json.readValue(raw, Line.class).toDomain();
+
+                if (after != null && !after.isAfter(log)) break;
+                if (!matches(query, log)) continue;
+
+                if (window.size() == limit) window.pollFirst();
+                window.addLast(log);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read audit archive segment " + segment.getFileName(), e);
+        }
+
+        List<AuditLog> newestFirst = new ArrayList<>(window.size());
+        window.descendingIterator().forEachRemaining(newestFirst::add);
+        return newestFirst;
+    }
+
+    private static BufferedReader open(Path segment) throws IOException {
+        return new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(segment), 64 * 1024), StandardCharsets.UTF_8));
+    }
+
+    private static boolean matches(AuditQuery query, AuditLog log) {
+        if (query.actorUserId() != null && !query.actorUserId().equals(log.actorUserId())) return false;
+        if (query.action() != null && !query.action().equals(log.action())) return false;
+        if (query.from() != null && log.timestamp().isBefore(query.from())) return false;
+        return query.to() == null || log.timestamp().isBefore(query.to());
+    }
+
+    private List<Path> segmentsNewestFirst() {
+        if (!Files.isDirectory(dir)) return List.of();
+
+        try (Stream<Path> files = Files.list(dir)) {
+            return files
+                    .filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted(Comparator.comparing((Path p) -> p.getFileName().toString()).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list audit archive segments", e);
+        }
+    }
+
+    private Path segmentPath(LocalDate day) {
+        return dir.resolve(SEGMENT_PREFIX + day + SEGMENT_SUFFIX);
+    }
+
+    private static LocalDate dayOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return LocalDate.parse(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    // an append that never reached its watermark update is cut off again, so a retried chunk is not archived twice
+    private void recover() {
+        Path stateFile = dir.resolve(STATE_FILE);
+        if (!Files.exists(stateFile)) return;
+
+        Properties state = new Properties();
+        try (var in = Files.newInputStream(stateFile)) {
+            state.load(in);
+
+            String ts = state.getProperty("watermark.timestamp");
+            String id = state.getProperty("watermark.id");
+            watermark = (ts != null && id != null) ? new AuditCursor(Instant.parse(ts), Long.valueOf(id)) : null;
+
+            String pending = state.getProperty("pending.segment");
+            if (pending != null) {
+                Path segment = dir.resolve(pending);
+                long offset = Long.parseLong(state.getProperty("pending.offset", "0"));
+                if (Files.exists(segment) && Files.size(segment) > offset) {
+                    try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                        channel.truncate(offset);
+                        channel.force(true);
+                    }
+                }
+                writeState(watermark, null, 0);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to recover audit archive state", e);
+        }
+    }
+
+    private void writeState(AuditCursor mark, String pendingSegment, long pendingOffset) throws IOException {
+        Properties state = new Properties();
+        if (mark != null) {
+            state.setProperty("watermark.timestamp", mark.timestamp().toString());
+            state.setProperty("watermark.id", mark.id().toString());
+        }
+        if (pendingSegment != null) {
+            state.setProperty("pending.segment", pendingSegment);
+            state.setProperty("pending.offset", Long.toString(pendingOffset));
+        }
+
+        Path tmp = dir.resolve(STATE_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = Channels.newOutputStream(channel);
+            state.store(out, null);
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(tmp, dir.resolve(STATE_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+
+    private record Line(long id, Long actorUserId, String action, String target, String timestamp) {
+
+        static Line of(AuditLog log) {
+            return new Line(log.id(), log.actorUserId(), log.action(), log.target(), log.timestamp().toString());
+        }
+
+        AuditLog toDomain() {
+            return new AuditLog(id, actorUserId, action, target, Instant.parse(timestamp));
+        }
+    }
+}
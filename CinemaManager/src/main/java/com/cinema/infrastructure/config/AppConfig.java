@@ -1,18 +1,24 @@
 package com.cinema.infrastructure.config;
 
 import com.cinema.domain.policy.PasswordPolicy;
+import com.cinema.domain.policy.RateLimitPolicy;
+import com.cinema.domain.policy.TokenPolicy;
 import com.cinema.domain.service.ProgramStateMachine;
 import com.cinema.domain.service.ScreeningStateMachine;
+import com.cinema.infrastructure.security.RevocationEpochs;
 import com.cinema.infrastructure.security.TokenService;
 import com.cinema.infrastructure.security.TokenValidator;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.time.Clock;
+import java.time.Duration;
 
 
 @Configuration
+@EnableScheduling
 public class AppConfig {
 
 
@@ -38,17 +44,44 @@ public class AppConfig {
         return new PasswordPolicy(PasswordPolicy.Config.strongDefaults());
     }
 
+    @Bean
+    public RateLimitPolicy rateLimitPolicy() {
+        return RateLimitPolicy.defaults();
+    }
+
+    @Bean
+    public TokenPolicy tokenPolicy(
+            @Value("${jwt.access-ttl-seconds:900}") long accessTtlSeconds,
+            @Value("${jwt.refresh-ttl-seconds:1209600}") long refreshTtlSeconds,
+            @Value("${jwt.clock-skew-seconds:60}") long clockSkewSeconds,
+            @Value("${jwt.max-sessions-per-user:5}") int maxSessionsPerUser,
+            @Value("${jwt.issuer:cinema-api}") String issuer
+    ) {
+        return new TokenPolicy(
+                Duration.ofSeconds(accessTtlSeconds),
+                Duration.ofSeconds(refreshTtlSeconds),
+                Duration.ofSeconds(clockSkewSeconds),
+                maxSessionsPerUser,
+                issuer
+        );
+    }
+
     @Bean
     public TokenService tokenService(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration-seconds}") long expirationSeconds
+            TokenPolicy tokenPolicy,
+            RevocationEpochs revocationEpochs
     ) {
-        return new TokenService(secret, expirationSeconds);
+        return new TokenService(secret, tokenPolicy, revocationEpochs);
     }
 
     @Bean
-    public TokenValidator tokenValidator(@Value("${jwt.secret}") String secret) {
-        return new TokenValidator(secret);
+    public TokenValidator tokenValidator(
+            @Value("${jwt.secret}") String secret,
+            TokenPolicy tokenPolicy,
+            @Value("${jwt.verified-cache-size:10000}") int verifiedCacheSize
+    ) {
+        return new TokenValidator(secret, tokenPolicy, verifiedCacheSize, Clock.systemUTC());
     }
 
 }
@@ -1,6 +1,11 @@
 package com.cinema.infrastructure.config;
 
+import com.cinema.domain.policy.RateLimitPolicy;
 import com.cinema.infrastructure.security.JwtAuthenticationFilter;
+import com.cinema.infrastructure.security.RateLimitFilter;
+import com.cinema.infrastructure.security.TokenValidator;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -21,9 +26,16 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
-
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    private final RateLimitFilter rateLimitFilter;
+
+    public SecurityConfig(
+            JwtAuthenticationFilter jwtAuthenticationFilter,
+            TokenValidator tokenValidator,
+            RateLimitPolicy rateLimitPolicy,
+            @Value("${security.rate-limit.max-tracked-clients:50000}") int maxTrackedClients
+    ) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = new RateLimitFilter(rateLimitPolicy, tokenValidator, maxTrackedClients);
     }
 
     @Bean
@@ -38,8 +50,11 @@ public class SecurityConfig {
 
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
+                        // streamed responses finish on an async dispatch of a request that was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
 
-                        .requestMatchers(HttpMethod.POST, "/api/auth/login", "/api/auth/register").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/auth/login", "/api/auth/register", "/api/auth/refresh").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/auth/validate").permitAll()
 
 
@@ -58,7 +73,8 @@ public class SecurityConfig {
                                 "/api/programs",
                                 "/api/programs/*",
                                 "/api/screenings/*",
-                                "/api/screenings/by-program"
+                                "/api/screenings/by-program",
+                                "/api/screenings/search"
                         ).permitAll()
 
 
@@ -70,7 +86,8 @@ public class SecurityConfig {
                 .headers(headers -> headers.frameOptions(frame -> frame.disable()))
                 .httpBasic(basic -> basic.disable())
                 .formLogin(form -> form.disable())
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -81,6 +98,7 @@ public class SecurityConfig {
         config.setAllowedOrigins(List.of("http://localhost:5173"));
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(List.of("Authorization", "Content-Type"));
+        config.setExposedHeaders(List.of("X-Next-Cursor", "X-Auto-Rejected", "Retry-After"));
         config.setAllowCredentials(false);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
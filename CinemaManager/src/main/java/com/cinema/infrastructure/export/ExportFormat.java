@@ -0,0 +1,30 @@
+package com.cinema.infrastructure.export;
+
+import com.cinema.domain.Exceptions.ValidationException;
+
+import java.util.Locale;
+
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() { return contentType; }
+    public String extension() { return extension; }
+
+    public static ExportFormat parse(String raw) {
+        if (raw == null || raw.isBlank()) return NDJSON;
+        try {
+            return valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("format", "format must be ndjson or csv");
+        }
+    }
+}
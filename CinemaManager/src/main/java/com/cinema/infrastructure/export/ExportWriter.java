@@ -0,0 +1,136 @@
+package com.cinema.infrastructure.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// Writes one row at a time straight to the given stream; nothing is held beyond the I/O buffer.
+// Closing flushes but leaves the target open, so the caller can still finish a gzip wrapper around it.
+public abstract class ExportWriter implements Closeable {
+
+    private static final JsonFactory JSON = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    protected final List<String> columns;
+
+    private ExportWriter(List<String> columns) {
+        this.columns = List.copyOf(columns);
+    }
+
+    public static ExportWriter open(ExportFormat format, OutputStream out, List<String> columns) throws IOException {
+        return switch (format) {
+            case NDJSON -> new Ndjson(out, columns);
+            case CSV -> new Csv(out, columns);
+        };
+    }
+
+    public void row(Object... values) {
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException("expected " + columns.size() + " values, got " + values.length);
+        }
+        try {
+            write(values);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Export stream closed", e);
+        }
+    }
+
+    protected abstract void write(Object[] values) throws IOException;
+
+
+    private static final class Ndjson extends ExportWriter {
+
+        private final JsonGenerator json;
+
+        Ndjson(OutputStream out, List<String> columns) throws IOException {
+            super(columns);
+            this.json = JSON.createGenerator(out, JsonEncoding.UTF8);
+            this.json.setRootValueSeparator(null);
+        }
+
+        @Override
+        protected void write(Object[] values) throws IOException {
+            json.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                Object v = values[i];
+                json.writeFieldName(columns.get(i));
+                if (v == null) json.writeNull();
+                else if (v instanceof Long l) json.writeNumber(l);
+                else if (v instanceof Integer n) json.writeNumber(n);
+                else if (v instanceof Boolean b) json.writeBoolean(b);
+                else json.writeString(v.toString());
+            }
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            json.close();
+        }
+    }
+
+
+    private static final class Csv extends ExportWriter {
+
+        private final Writer out;
+
+        Csv(OutputStream out, List<String> columns) throws IOException {
+            super(columns);
+            this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            write(columns.toArray());
+        }
+
+        @Override
+        protected void write(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) out.write(',');
+                Object v = values[i];
+                if (v == null) continue;
+                writeCell(v instanceof Number ? v.toString() : neutralize(v.toString()));
+            }
+            out.write("\r\n");
+        }
+
+        // a spreadsheet would evaluate text starting with one of these as a formula, so it is kept as text
+        private static String neutralize(String cell) {
+            if (cell.isEmpty()) return cell;
+            char first = cell.charAt(0);
+            boolean formula = first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+            return formula ? "'" + cell : cell;
+        }
+
+        private void writeCell(String cell) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < cell.length() && !quote; i++) {
+                char c = cell.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                out.write(cell);
+                return;
+            }
+            out.write('"');
+            out.write(cell.replace("\"", "\"\""));
+            out.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.cinema.infrastructure.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@FunctionalInterface
+public interface StreamingExport {
+
+    void writeTo(OutputStream out) throws IOException;
+}
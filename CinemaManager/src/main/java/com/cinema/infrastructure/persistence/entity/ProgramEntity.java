@@ -2,17 +2,22 @@ package com.cinema.infrastructure.persistence.entity;
 
 import com.cinema.domain.enums.ProgramState;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
 @Entity
 @Table(
         name = "programs",
         indexes = {
-                @Index(name = "uk_programs_name", columnList = "name", unique = true)
+                @Index(name = "uk_programs_name", columnList = "name", unique = true),
+                @Index(name = "idx_programs_dates", columnList = "start_date, end_date"),
+                @Index(name = "idx_programs_start_name_id", columnList = "start_date, name_lower, id"),
+                @Index(name = "idx_programs_creator", columnList = "creator_user_id")
         }
 )
 public class ProgramEntity {
@@ -24,6 +29,10 @@ public class ProgramEntity {
     @Column(nullable = false, length = 120)
     private String name;
 
+    // kept in step with name by setName; search orders and pages on it
+    @Column(name = "name_lower", nullable = false, length = 120)
+    private String nameLower;
+
     @Column(nullable = false, length = 2000)
     private String description;
 
@@ -44,12 +53,22 @@ public class ProgramEntity {
     private LocalDateTime createdTime;
 
     @ElementCollection
-    @CollectionTable(name = "program_programmers", joinColumns = @JoinColumn(name = "program_id"))
+    @BatchSize(size = 100)
+    @CollectionTable(
+            name = "program_programmers",
+            joinColumns = @JoinColumn(name = "program_id"),
+            indexes = @Index(name = "idx_pgpr_user_program", columnList = "user_id, program_id")
+    )
     @Column(name = "user_id", nullable = false)
     private Set<Long> programmers = new HashSet<>();
 
     @ElementCollection
-    @CollectionTable(name = "program_staff", joinColumns = @JoinColumn(name = "program_id"))
+    @BatchSize(size = 100)
+    @CollectionTable(
+            name = "program_staff",
+            joinColumns = @JoinColumn(name = "program_id"),
+            indexes = @Index(name = "idx_pgstaff_user_program", columnList = "user_id, program_id")
+    )
     @Column(name = "user_id", nullable = false)
     private Set<Long> staff = new HashSet<>();
 
@@ -62,7 +81,12 @@ public class ProgramEntity {
     public void setId(Long id) { this.id = id; }
 
     public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
+    public void setName(String name) {
+        this.name = name;
+        this.nameLower = (name != null) ? name.toLowerCase(Locale.ROOT) : null;
+    }
+
+    public String getNameLower() { return nameLower; }
 
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
@@ -0,0 +1,28 @@
+package com.cinema.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "revocation_epochs")
+public class RevocationEpochEntity {
+
+    @Id
+    @Column(length = 40)
+    private String scope;
+
+    @Column(nullable = false)
+    private long epoch;
+
+    public RevocationEpochEntity() {}
+
+    public RevocationEpochEntity(String scope, long epoch) {
+        this.scope = scope;
+        this.epoch = epoch;
+    }
+
+
+    public String getScope() { return scope; }
+
+    public long getEpoch() { return epoch; }
+    public void setEpoch(long epoch) { this.epoch = epoch; }
+}
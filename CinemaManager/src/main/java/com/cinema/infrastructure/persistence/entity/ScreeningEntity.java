@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
                 @Index(name = "idx_screenings_program", columnList = "program_id"),
                 @Index(name = "idx_screenings_submitter", columnList = "submitter_id"),
                 @Index(name = "idx_screenings_staff", columnList = "staff_member_id"),
-                @Index(name = "idx_screening_starttime", columnList = "start_time")
+                @Index(name = "idx_screening_starttime", columnList = "start_time"),
+                @Index(name = "idx_screening_program_created", columnList = "program_id, created_time, id"),
+                @Index(name = "idx_screening_submitter_created", columnList = "submitter_id, created_time, id"),
+                @Index(name = "idx_screening_staff_created", columnList = "staff_member_id, created_time, id")
         }
 )
 public class ScreeningEntity {
@@ -38,9 +38,6 @@ public class UserEntity {
     private int failedAttempts;
 
 
-    @Column(name = "current_jti", length = 36)
-    private String currentJti;
-
     @Column(name = "last_login_at")
     private Instant lastLoginAt;
 
@@ -66,9 +63,6 @@ public class UserEntity {
     public int getFailedAttempts() { return failedAttempts; }
     public void setFailedAttempts(int failedAttempts) { this.failedAttempts = failedAttempts; }
 
-    public String getCurrentJti() { return currentJti; }
-    public void setCurrentJti(String currentJti) { this.currentJti = currentJti; }
-
     public Instant getLastLoginAt() { return lastLoginAt; }
     public void setLastLoginAt(Instant lastLoginAt) { this.lastLoginAt = lastLoginAt; }
 }
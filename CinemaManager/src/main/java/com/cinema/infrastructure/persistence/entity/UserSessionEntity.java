@@ -0,0 +1,45 @@
+package com.cinema.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+@Entity
+@Table(name = "user_sessions")
+public class UserSessionEntity {
+
+    @Id
+    @Column(name = "session_id", length = 36)
+    private String sessionId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "refresh_jti", length = 36)
+    private String refreshJti;
+
+    public UserSessionEntity() {}
+
+    public UserSessionEntity(String sessionId, Long userId, Instant createdAt, Instant expiresAt, String refreshJti) {
+        this.sessionId = sessionId;
+        this.userId = userId;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+        this.refreshJti = refreshJti;
+    }
+
+
+    public String getSessionId() { return sessionId; }
+    public Long getUserId() { return userId; }
+    public Instant getCreatedAt() { return createdAt; }
+
+    public Instant getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(Instant expiresAt) { this.expiresAt = expiresAt; }
+
+    public String getRefreshJti() { return refreshJti; }
+}
@@ -21,9 +21,6 @@ public class UserPersistenceMapper {
         e.setBaseRole(user.baseRole());
         e.setActive(user.isActive());
         e.setFailedAttempts(user.failedAttempts());
-
-
-        e.setCurrentJti(user.currentJti());
         e.setLastLoginAt(user.lastLoginAt());
 
         return e;
@@ -38,9 +35,6 @@ public class UserPersistenceMapper {
                 e.getBaseRole(),
                 e.isActive(),
                 e.getFailedAttempts(),
-
-
-                e.getCurrentJti(),
                 e.getLastLoginAt()
         );
     }
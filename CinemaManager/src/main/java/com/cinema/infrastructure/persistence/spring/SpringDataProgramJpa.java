@@ -1,12 +1,18 @@
 package com.cinema.infrastructure.persistence.spring;
 
 import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.port.ProgramRepository;
 import com.cinema.infrastructure.persistence.entity.ProgramEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SpringDataProgramJpa extends JpaRepository<ProgramEntity, Long> {
@@ -19,4 +25,94 @@ public interface SpringDataProgramJpa extends JpaRepository<ProgramEntity, Long>
 
     List<ProgramEntity> findByStartDateBetween(LocalDate from, LocalDate to);
 
+    List<ProgramEntity> findByCreatorUserId(Long creatorUserId);
+
+
+    @Query("""
+            select p from ProgramEntity p
+            where (:namePattern is null or p.nameLower like :namePattern escape '\\')
+              and (:state is null or p.state = :state)
+              and (:fromDate is null or p.startDate >= :fromDate)
+              and (:toDate is null or p.endDate <= :toDate)
+              and (:runningOn is null or (p.startDate <= :runningOn and p.endDate >= :runningOn))
+              and (:afterDate is null
+                   or p.startDate > :afterDate
+                   or (p.startDate = :afterDate and p.nameLower > :afterName)
+                   or (p.startDate = :afterDate and p.nameLower = :afterName and p.id > :afterId))
+            order by p.startDate asc, p.nameLower asc, p.id asc
+            """)
+    List<ProgramEntity> search(
+            @Param("namePattern") String namePattern,
+            @Param("state") ProgramState state,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            @Param("runningOn") LocalDate runningOn,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterName") String afterName,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+
+    @Query(value = "select count(*) > 0 from program_programmers where user_id = :userId and program_id = :programId",
+            nativeQuery = true)
+    boolean existsProgrammer(@Param("programId") Long programId, @Param("userId") Long userId);
+
+    @Query(value = "select count(*) > 0 from program_staff where user_id = :userId and program_id = :programId",
+            nativeQuery = true)
+    boolean existsStaff(@Param("programId") Long programId, @Param("userId") Long userId);
+
+    @Query(value = """
+            select id as program_id, 'CREATOR' as relationship from programs
+             where creator_user_id = :userId and id in (:programIds)
+            union all
+            select program_id, 'PROGRAMMER' from program_programmers
+             where user_id = :userId and program_id in (:programIds)
+            union all
+            select program_id, 'STAFF' from program_staff
+             where user_id = :userId and program_id in (:programIds)
+            """, nativeQuery = true)
+    List<Object[]> findRelationships(@Param("programIds") Collection<Long> programIds, @Param("userId") Long userId);
+
+    @Query("select p.id, p.state from ProgramEntity p where p.id in :programIds")
+    List<Object[]> findStates(@Param("programIds") Collection<Long> programIds);
+
+
+    @Query("""
+            select new com.cinema.domain.port.ProgramRepository$PublicProgram(
+                       p.id, p.name, p.description, p.startDate, p.endDate, p.state)
+            from ProgramEntity p
+            where p.id = :id and p.state = com.cinema.domain.enums.ProgramState.ANNOUNCED
+            """)
+    Optional<ProgramRepository.PublicProgram> findPublicById(@Param("id") Long id);
+
+    @Query("""
+            select new com.cinema.domain.port.ProgramRepository$PublicProgram(
+                       p.id, p.name, p.description, p.startDate, p.endDate, p.state)
+            from ProgramEntity p
+            where p.state = com.cinema.domain.enums.ProgramState.ANNOUNCED
+              and (:namePattern is null or p.nameLower like :namePattern escape '\\')
+              and (:fromDate is null or p.startDate >= :fromDate)
+              and (:toDate is null or p.endDate <= :toDate)
+              and (:runningOn is null or (p.startDate <= :runningOn and p.endDate >= :runningOn))
+              and (:afterDate is null
+                   or p.startDate > :afterDate
+                   or (p.startDate = :afterDate and p.nameLower > :afterName)
+                   or (p.startDate = :afterDate and p.nameLower = :afterName and p.id > :afterId))
+            order by p.startDate asc, p.nameLower asc, p.id asc
+            """)
+    List<ProgramRepository.PublicProgram> searchPublic(
+            @Param("namePattern") String namePattern,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            @Param("runningOn") LocalDate runningOn,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterName") String afterName,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    @Query("select p.id, u from ProgramEntity p join p.programmers u where p.id in :programIds")
+    List<Object[]> findProgrammerIds(@Param("programIds") Collection<Long> programIds);
+
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.cinema.infrastructure.persistence.spring;
+
+import com.cinema.infrastructure.persistence.entity.RevocationEpochEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SpringDataRevocationEpochJpa extends JpaRepository<RevocationEpochEntity, String> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RevocationEpochEntity e set e.epoch = e.epoch + 1 where e.scope = :scope")
+    int increment(@Param("scope") String scope);
+}
@@ -1,28 +1,139 @@
 package com.cinema.infrastructure.persistence.spring;
 
 import com.cinema.domain.enums.ScreeningState;
+import com.cinema.domain.port.ScreeningRepository;
 import com.cinema.infrastructure.persistence.entity.ScreeningEntity;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface SpringDataScreeningJpa extends JpaRepository<ScreeningEntity, Long> {
 
 
-    List<ScreeningEntity> findByProgramId(Long programId, Pageable pageable);
-    List<ScreeningEntity> findBySubmitterId(Long submitterId, Pageable pageable);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update ScreeningEntity s
+            set s.screeningState = :rejected, s.rejectionReason = :reason
+            where s.programId = :programId
+              and s.screeningState = :state
+            """)
+    int rejectAllInState(
+            @Param("programId") Long programId,
+            @Param("state") ScreeningState state,
+            @Param("rejected") ScreeningState rejected,
+            @Param("reason") String reason
+    );
 
 
-    List<ScreeningEntity> findByProgramIdAndScreeningState(Long programId, ScreeningState screeningState);
-    List<ScreeningEntity> findByProgramIdAndScreeningState(Long programId, ScreeningState screeningState, Pageable pageable);
+    @Query("""
+            select s from ScreeningEntity s
+            where s.programId = :programId
+              and (:state is null or s.screeningState = :state)
+              and (:restricted = false
+                   or s.submitterId = :viewerId
+                   or (:includeAssigned = true and s.staffMemberId = :viewerId)
+                   or (:includeScheduled = true and s.screeningState = com.cinema.domain.enums.ScreeningState.SCHEDULED))
+              and (:afterTime is null
+                   or s.createdTime < :afterTime
+                   or (s.createdTime = :afterTime and s.id < :afterId))
+            order by s.createdTime desc, s.id desc
+            """)
+    List<ScreeningEntity> findProgramFeed(
+            @Param("programId") Long programId,
+            @Param("state") ScreeningState state,
+            @Param("restricted") boolean restricted,
+            @Param("viewerId") Long viewerId,
+            @Param("includeAssigned") boolean includeAssigned,
+            @Param("includeScheduled") boolean includeScheduled,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
 
-    List<ScreeningEntity> findBySubmitterIdAndScreeningState(Long submitterId, ScreeningState screeningState, Pageable pageable);
+    @Query("""
+            select s from ScreeningEntity s
+            where s.submitterId = :submitterId
+              and (:state is null or s.screeningState = :state)
+              and (:afterTime is null
+                   or s.createdTime < :afterTime
+                   or (s.createdTime = :afterTime and s.id < :afterId))
+            order by s.createdTime desc, s.id desc
+            """)
+    List<ScreeningEntity> findSubmitterFeed(
+            @Param("submitterId") Long submitterId,
+            @Param("state") ScreeningState state,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
 
-
-    List<ScreeningEntity> findByStaffMemberId(Long staffMemberId, Pageable pageable);
+    @Query("""
+            select s from ScreeningEntity s
+            where s.staffMemberId = :staffMemberId
+              and (:afterTime is null
+                   or s.createdTime < :afterTime
+                   or (s.createdTime = :afterTime and s.id < :afterId))
+            order by s.createdTime desc, s.id desc
+            """)
+    List<ScreeningEntity> findStaffFeed(
+            @Param("staffMemberId") Long staffMemberId,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
 
 
     boolean existsByProgramIdAndSubmitterId(Long programId, Long submitterId);
+
+    @Query("select distinct s.programId from ScreeningEntity s where s.submitterId = :submitterId and s.programId in :programIds")
+    List<Long> findProgramIdsWithSubmitter(@Param("programIds") Collection<Long> programIds, @Param("submitterId") Long submitterId);
     long countByProgramIdAndScreeningState(Long programId, ScreeningState screeningState);
+
+
+    @Query("""
+            select s.id, s.title, s.genres, s.castNames, s.description
+            from ScreeningEntity s
+            where s.id > :afterId
+            order by s.id asc
+            """)
+    List<Object[]> findSearchableFields(@Param("afterId") Long afterId, Pageable pageable);
+
+    List<ScreeningEntity> findByIdIn(Collection<Long> ids);
+
+
+    @Query("""
+            select new com.cinema.domain.port.ScreeningRepository$PublicScreening(
+                       s.id, s.programId, s.title, s.genres, s.startTime, s.auditoriumName)
+            from ScreeningEntity s, ProgramEntity p
+            where s.id = :id
+              and p.id = s.programId
+              and p.state = com.cinema.domain.enums.ProgramState.ANNOUNCED
+              and s.screeningState = com.cinema.domain.enums.ScreeningState.SCHEDULED
+            """)
+    Optional<ScreeningRepository.PublicScreening> findPublicById(@Param("id") Long id);
+
+    @Query("""
+            select s.id, s.createdTime, new com.cinema.domain.port.ScreeningRepository$PublicScreening(
+                       s.id, s.programId, s.title, s.genres, s.startTime, s.auditoriumName)
+            from ScreeningEntity s
+            where s.programId = :programId
+              and s.screeningState = com.cinema.domain.enums.ScreeningState.SCHEDULED
+              and (:afterTime is null
+                   or s.createdTime < :afterTime
+                   or (s.createdTime = :afterTime and s.id < :afterId))
+            order by s.createdTime desc, s.id desc
+            """)
+    List<Object[]> findPublicProgramFeed(
+            @Param("programId") Long programId,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
 }
@@ -3,8 +3,12 @@ package com.cinema.infrastructure.persistence.spring;
 import com.cinema.domain.enums.BaseRole;
 import com.cinema.infrastructure.persistence.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +21,8 @@ public interface SpringDataUserJpa extends JpaRepository<UserEntity, Long>  {
     List<UserEntity> findByBaseRole(BaseRole role);
 
     long countByBaseRole(BaseRole role);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update UserEntity u set u.lastLoginAt = :at, u.failedAttempts = 0 where u.id = :id")
+    int recordLogin(@Param("id") Long id, @Param("at") Instant at);
 }
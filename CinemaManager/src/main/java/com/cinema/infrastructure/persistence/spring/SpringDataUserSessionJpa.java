@@ -0,0 +1,32 @@
+package com.cinema.infrastructure.persistence.spring;
+
+import com.cinema.infrastructure.persistence.entity.UserSessionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface SpringDataUserSessionJpa extends JpaRepository<UserSessionEntity, String> {
+
+    List<UserSessionEntity> findByUserIdOrderByCreatedAtAsc(Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update UserSessionEntity s
+               set s.refreshJti = :nextJti, s.expiresAt = :expiresAt
+             where s.sessionId = :sessionId and s.refreshJti = :presentedJti
+            """)
+    int rotateRefresh(@Param("sessionId") String sessionId,
+                      @Param("presentedJti") String presentedJti,
+                      @Param("nextJti") String nextJti,
+                      @Param("expiresAt") Instant expiresAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from UserSessionEntity s where s.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
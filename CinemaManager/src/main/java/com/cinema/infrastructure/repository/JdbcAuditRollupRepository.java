@@ -0,0 +1,81 @@
+package com.cinema.infrastructure.repository;
+
+import com.cinema.domain.port.AuditRollupRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+public class JdbcAuditRollupRepository implements AuditRollupRepository {
+
+    private static final String INCREMENT_SQL =
+            "UPDATE audit_rollups SET event_count = event_count + ? WHERE granularity = ? AND action = ? AND bucket_start = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_rollups (granularity, action, bucket_start, event_count) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbc;
+
+    public JdbcAuditRollupRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    @Transactional
+    public void add(Granularity granularity, List<Point> deltas) {
+        if (deltas.isEmpty()) return;
+
+        int[][] updated = jdbc.batchUpdate(INCREMENT_SQL, deltas, deltas.size(), (ps, p) -> {
+            ps.setLong(1, p.count());
+            ps.setString(2, granularity.name());
+            ps.setString(3, p.action());
+            ps.setTimestamp(4, Timestamp.from(p.bucketStart()));
+        });
+
+        List<Point> missing = new ArrayList<>();
+        for (int i = 0; i < deltas.size(); i++) {
+            if (updated[0][i] == 0) missing.add(deltas.get(i));
+        }
+
+        if (missing.isEmpty()) return;
+        jdbc.batchUpdate(INSERT_SQL, missing, missing.size(), (ps, p) -> {
+            ps.setString(1, granularity.name());
+            ps.setString(2, p.action());
+            ps.setTimestamp(3, Timestamp.from(p.bucketStart()));
+            ps.setLong(4, p.count());
+        });
+    }
+
+    @Override
+    public List<Point> findSeries(Granularity granularity, String action, Instant from, Instant to) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT action, bucket_start, event_count FROM audit_rollups WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?");
+        List<Object> args = new ArrayList<>(List.of(granularity.name(), Timestamp.from(from), Timestamp.from(to)));
+
+        if (action != null) {
+            sql.append(" AND action = ?");
+            args.add(action);
+        }
+        sql.append(" ORDER BY action, bucket_start");
+
+        return jdbc.query(sql.toString(), (rs, i) -> new Point(
+                rs.getString("action"),
+                rs.getTimestamp("bucket_start").toInstant(),
+                rs.getLong("event_count")
+        ), args.toArray());
+    }
+
+    @Override
+    public int deleteOlderThan(Granularity granularity, Instant before) {
+        return jdbc.update(
+                "DELETE FROM audit_rollups WHERE granularity = ? AND bucket_start < ?",
+                granularity.name(),
+                Timestamp.from(before)
+        );
+    }
+}
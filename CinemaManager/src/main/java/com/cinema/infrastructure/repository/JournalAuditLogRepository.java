@@ -0,0 +1,445 @@
+package com.cinema.infrastructure.repository;
+
+import com.cinema.domain.entity.AuditLog;
+import com.cinema.domain.port.AuditLogRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Append-only audit store: fixed 512-byte records in memory-mapped segment files, newest segment last.
+// Record ids are journal positions, so id order is append order.
+@Repository
+@ConditionalOnProperty(name = "audit.store", havingValue = "journal")
+public class JournalAuditLogRepository implements AuditLogRepository {
+
+    private static final int MAGIC = 0x4155444A;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int RECORD_SIZE = 512;
+
+    private static final int ACTION_BYTES = 64;
+    private static final int TARGET_BYTES = RECORD_SIZE - 100;
+    private static final long NULL_ACTOR = Long.MIN_VALUE;
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path dir;
+    private final int segmentRecords;
+    private final int maxSegments;
+    private final int fsyncEveryRecords;
+    private final long fsyncIntervalMillis;
+
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final Object writeLock = new Object();
+
+    private Segment active;
+    private int unsyncedFrom;
+    private long lastSyncAt = System.currentTimeMillis();
+
+    public JournalAuditLogRepository(
+            @Value("${audit.journal.dir:data/audit-journal}") String dir,
+            @Value("${audit.journal.segment-records:65536}") int segmentRecords,
+            @Value("${audit.journal.max-segments:0}") int maxSegments,
+            @Value("${audit.journal.fsync-every-records:1000}") int fsyncEveryRecords,
+            @Value("${audit.journal.fsync-interval-millis:1000}") long fsyncIntervalMillis
+    ) {
+        if (segmentRecords <= 0 || segmentRecords > (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE) {
+            throw new IllegalArgumentException("segment-records must be between 1 and " + (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE);
+        }
+
+        this.dir = Path.of(dir);
+        this.segmentRecords = segmentRecords;
+        this.maxSegments = Math.max(0, maxSegments);
+        this.fsyncEveryRecords = Math.max(0, fsyncEveryRecords);
+        this.fsyncIntervalMillis = Math.max(0, fsyncIntervalMillis);
+
+        try {
+            Files.createDirectories(this.dir);
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open audit journal in " + dir, e);
+        }
+    }
+
+
+    @Override
+    public void save(AuditLog log) {
+        saveAll(List.of(log));
+    }
+
+    @Override
+    public void saveAll(List<AuditLog> logs) {
+        if (logs.isEmpty()) return;
+
+        byte[] record = new byte[RECORD_SIZE];
+        synchronized (writeLock) {
+            for (AuditLog log : logs) {
+                if (active.count == active.capacity) rotate();
+
+                int index = active.count;
+                encode(record, active.firstId + index, log);
+                active.buffer.put(HEADER_SIZE + index * RECORD_SIZE, record);
+                active.include(log.timestamp());
+                active.count = index + 1;
+            }
+            syncIfDue(false);
+        }
+    }
+
+    @Override
+    public List<AuditLog> findLatest(int limit) {
+        return search(AuditQuery.ALL, null, limit).items();
+    }
+
+    // newest first by id; the journal has no secondary indexes, so filters are applied while scanning backward
+    @Override
+    public AuditPage search(AuditQuery query, AuditCursor after, int limit) {
+        int safeLimit = (limit <= 0) ? 50 : Math.min(limit, 200);
+        AuditQuery q = (query != null) ? query : AuditQuery.ALL;
+
+        List<AuditLog> rows = new ArrayList<>(safeLimit);
+        List<Segment> snapshot = List.copyOf(segments);
+
+        for (int s = snapshot.size() - 1; s >= 0 && rows.size() < safeLimit; s--) {
+            Segment segment = snapshot.get(s);
+            int count = segment.count;
+            if (count == 0 || !segment.mayContain(q.from(), q.to())) continue;
+
+            int start = count - 1;
+            if (after != null) {
+                if (after.id() <= segment.firstId) continue;
+                start = (int) Math.min(start, after.id() - 1 - segment.firstId);
+            }
+
+            for (int i = start; i >= 0 && rows.size() < safeLimit; i--) {
+                AuditLog log = segment.read(i);
+                if (matches(q, log)) rows.add(log);
+            }
+        }
+
+        AuditCursor next = (rows.size() == safeLimit) ? AuditCursor.of(rows.get(rows.size() - 1)) : null;
+        return new AuditPage(rows, next);
+    }
+
+    @Override
+    public void forEachInRange(Instant from, Instant to, AuditCursor after, Consumer<AuditLog> sink) {
+        for (Segment segment : List.copyOf(segments)) {
+            int count = segment.count;
+            if (count == 0 || !segment.mayContain(from, to)) continue;
+            if (after != null && after.id() >= segment.firstId + count - 1) continue;
+
+            int start = (after == null) ? 0 : (int) Math.max(0, after.id() + 1 - segment.firstId);
+            for (int i = start; i < count; i++) {
+                AuditLog log = segment.read(i);
+                if (from != null && log.timestamp().isBefore(from)) continue;
+                if (to != null && !log.timestamp().isBefore(to)) continue;
+                sink.accept(log);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${audit.journal.fsync-interval-millis:1000}")
+    public void syncOnInterval() {
+        if (fsyncIntervalMillis == 0) return;
+        synchronized (writeLock) {
+            syncIfDue(true);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        synchronized (writeLock) {
+            sync();
+            for (Segment segment : segments) segment.close();
+        }
+    }
+
+    private void syncIfDue(boolean timerOnly) {
+        int pending = active.count - unsyncedFrom;
+        if (pending <= 0) return;
+
+        boolean byCount = !timerOnly && fsyncEveryRecords > 0 && pending >= fsyncEveryRecords;
+        boolean byTime = fsyncIntervalMillis > 0 && System.currentTimeMillis() - lastSyncAt >= fsyncIntervalMillis;
+        if (byCount || byTime) sync();
+    }
+
+    private void sync() {
+        int pending = active.count - unsyncedFrom;
+        if (pending > 0) {
+            active.buffer.force(HEADER_SIZE + unsyncedFrom * RECORD_SIZE, pending * RECORD_SIZE);
+            unsyncedFrom = active.count;
+        }
+        lastSyncAt = System.currentTimeMillis();
+    }
+
+    private void rotate() {
+        sync();
+        active.seal();
+
+        long firstId = active.firstId + active.capacity;
+        Segment next = Segment.create(segmentPath(firstId), firstId, segmentRecords);
+        segments.add(next);
+        active = next;
+        unsyncedFrom = 0;
+
+        while (maxSegments > 0 && segments.size() > maxSegments) {
+            Segment oldest = segments.remove(0);
+            oldest.close();
+            try {
+                Files.deleteIfExists(oldest.path);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to drop audit journal segment " + oldest.path, e);
+            }
+        }
+    }
+
+    private void open() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(dir)) {
+            files = list.filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+
+        for (int i = 0; i < files.size(); i++) {
+            boolean last = i == files.size() - 1;
+            segments.add(Segment.open(files.get(i), last));
+        }
+
+        if (segments.isEmpty()) {
+            segments.add(Segment.create(segmentPath(1), 1, segmentRecords));
+        }
+        active = segments.get(segments.size() - 1);
+        unsyncedFrom = active.count;
+    }
+
+    private Path segmentPath(long firstId) {
+        return dir.resolve(SEGMENT_PREFIX + String.format("%020d", firstId) + SEGMENT_SUFFIX);
+    }
+
+    private static boolean matches(AuditQuery query, AuditLog log) {
+        if (query.actorUserId() != null && !query.actorUserId().equals(log.actorUserId())) return false;
+        if (query.action() != null && !query.action().equals(log.action())) return false;
+        if (query.from() != null && log.timestamp().isBefore(query.from())) return false;
+        return query.to() == null || log.timestamp().isBefore(query.to());
+    }
+
+    // layout: crc32c(4) id(8) epochSecond(8) nanos(4) actor(8) actionLen(2) action(64) targetLen(2) target(412)
+    private static void encode(byte[] record, long id, AuditLog log) {
+        ByteBuffer b = ByteBuffer.wrap(record);
+        b.position(4);
+        b.putLong(id);
+        b.putLong(log.timestamp().getEpochSecond());
+        b.putInt(log.timestamp().getNano());
+        b.putLong(log.actorUserId() != null ? log.actorUserId() : NULL_ACTOR);
+
+        byte[] action = truncate(log.action(), ACTION_BYTES);
+        b.putShort((short) action.length);
+        b.put(action);
+        b.position(34 + ACTION_BYTES);
+
+        if (log.target() == null) {
+            b.putShort((short) -1);
+        } else {
+            byte[] target = truncate(log.target(), TARGET_BYTES);
+            b.putShort((short) target.length);
+            b.put(target);
+        }
+        b.position(100 + TARGET_BYTES);
+        while (b.hasRemaining()) b.put((byte) 0);
+
+        b.putInt(0, crc(record));
+    }
+
+    private static AuditLog decode(byte[] record) {
+        ByteBuffer b = ByteBuffer.wrap(record);
+        b.position(4);
+        long id = b.getLong();
+        Instant timestamp = Instant.ofEpochSecond(b.getLong(), b.getInt());
+        long actor = b.getLong();
+
+        int actionLen = b.getShort();
+        String action = new String(record, 34, actionLen, StandardCharsets.UTF_8);
+        b.position(34 + ACTION_BYTES);
+
+        int targetLen = b.getShort();
+        String target = targetLen < 0 ? null : new String(record, 100, targetLen, StandardCharsets.UTF_8);
+
+        return new AuditLog(id, actor == NULL_ACTOR ? null : actor, action, target, timestamp);
+    }
+
+    private static boolean isValid(byte[] record) {
+        int stored = ByteBuffer.wrap(record).getInt(0);
+        return stored != 0 && stored == crc(record);
+    }
+
+    private static int crc(byte[] record) {
+        CRC32C crc = new CRC32C();
+        crc.update(record, 4, RECORD_SIZE - 4);
+        int value = (int) crc.getValue();
+        return value == 0 ? 1 : value;
+    }
+
+    // the column limits (50 / 255 chars) fit unless the text is mostly multi-byte; cut on a character boundary
+    private static byte[] truncate(String value, int maxBytes) {
+        byte[] bytes = (value != null ? value : "").getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= maxBytes) return bytes;
+
+        int end = maxBytes;
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) end--;
+        byte[] cut = new byte[end];
+        System.arraycopy(bytes, 0, cut, 0, end);
+        return cut;
+    }
+
+
+    private static final class Segment {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final long firstId;
+        private final int capacity;
+
+        private volatile int count;
+        private volatile long minMillis = Long.MAX_VALUE;
+        private volatile long maxMillis = Long.MIN_VALUE;
+
+        private Segment(Path path, FileChannel channel, MappedByteBuffer buffer, long firstId, int capacity) {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.firstId = firstId;
+            this.capacity = capacity;
+        }
+
+        static Segment create(Path path, long firstId, int capacity) {
+            try {
+                FileChannel channel = FileChannel.open(path,
+                        StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+                buffer.putInt(8, RECORD_SIZE);
+                buffer.putInt(12, capacity);
+                buffer.putLong(16, firstId);
+                buffer.put(24, (byte) 0);
+                buffer.force(0, HEADER_SIZE);
+
+                return new Segment(path, channel, buffer, firstId, capacity);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to create audit journal segment " + path, e);
+            }
+        }
+
+        // a sealed segment was fully synced before the next one was created; anything else is recovered by
+        // keeping the leading run of valid records and zeroing everything after it, which drops a torn tail
+        // and any later pages the OS happened to flush ahead of it
+        static Segment open(Path path, boolean last) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || header.getInt(8) != RECORD_SIZE) {
+                channel.close();
+                throw new IOException("Not an audit journal segment: " + path);
+            }
+
+            int capacity = header.getInt(12);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+            Segment segment = new Segment(path, channel, buffer, buffer.getLong(16), capacity);
+
+            if (buffer.get(24) == 1 && !last) {
+                segment.count = capacity;
+                segment.minMillis = buffer.getLong(32);
+                segment.maxMillis = buffer.getLong(40);
+                return segment;
+            }
+
+            segment.recover();
+            return segment;
+        }
+
+        AuditLog read(int index) {
+            byte[] record = new byte[RECORD_SIZE];
+            buffer.get(HEADER_SIZE + index * RECORD_SIZE, record);
+            return decode(record);
+        }
+
+        boolean mayContain(Instant from, Instant to) {
+            if (from != null && maxMillis < from.toEpochMilli()) return false;
+            return to == null || minMillis <= to.toEpochMilli();
+        }
+
+        void include(Instant timestamp) {
+            long millis = timestamp.toEpochMilli();
+            if (millis < minMillis) minMillis = millis;
+            if (millis > maxMillis) maxMillis = millis;
+        }
+
+        void seal() {
+            buffer.putLong(32, minMillis);
+            buffer.putLong(40, maxMillis);
+            buffer.put(24, (byte) 1);
+            buffer.force(0, HEADER_SIZE);
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // the mapping stays valid until it is garbage collected
+            }
+        }
+
+        private void recover() {
+            byte[] record = new byte[RECORD_SIZE];
+            int valid = 0;
+            while (valid < capacity) {
+                buffer.get(HEADER_SIZE + valid * RECORD_SIZE, record);
+                if (!isValid(record)) break;
+                include(decode(record).timestamp());
+                valid++;
+            }
+
+            byte[] zeros = new byte[RECORD_SIZE];
+            int lastDirty = -1;
+            for (int i = valid; i < capacity; i++) {
+                buffer.get(HEADER_SIZE + i * RECORD_SIZE, record);
+                if (isZero(record)) continue;
+                buffer.put(HEADER_SIZE + i * RECORD_SIZE, zeros);
+                lastDirty = i;
+            }
+            if (lastDirty >= valid) buffer.force(HEADER_SIZE + valid * RECORD_SIZE, (lastDirty + 1 - valid) * RECORD_SIZE);
+
+            count = valid;
+        }
+
+        private static boolean isZero(byte[] record) {
+            for (byte b : record) if (b != 0) return false;
+            return true;
+        }
+    }
+}
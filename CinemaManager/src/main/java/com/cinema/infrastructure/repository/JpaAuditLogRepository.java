@@ -2,19 +2,58 @@ package com.cinema.infrastructure.repository;
 
 import com.cinema.domain.entity.AuditLog;
 import com.cinema.domain.port.AuditLogRepository;
+import com.cinema.domain.port.AuditRetentionRepository;
 import com.cinema.infrastructure.persistence.entity.AuditLogEntity;
 import com.cinema.infrastructure.persistence.spring.SpringDataAuditLogJpa;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Repository
-public class JpaAuditLogRepository implements AuditLogRepository {
+@ConditionalOnProperty(name = "audit.store", havingValue = "jdbc", matchIfMissing = true)
+public class JpaAuditLogRepository implements AuditLogRepository, AuditRetentionRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_logs (actor_user_id, action, target, timestamp) VALUES (?, ?, ?, ?)";
+
+    private static final String SELECT_SQL =
+            "SELECT id, actor_user_id, action, target, timestamp FROM audit_logs";
+
+    private static final RowMapper<AuditLog> ROW_MAPPER = (rs, i) -> new AuditLog(
+            rs.getLong("id"),
+            rs.getObject("actor_user_id", Long.class),
+            rs.getString("action"),
+            rs.getString("target"),
+            rs.getTimestamp("timestamp").toInstant()
+    );
 
     private final SpringDataAuditLogJpa jpa;
+    private final JdbcTemplate jdbc;
+    private final int exportFetchSize;
 
-    public JpaAuditLogRepository(SpringDataAuditLogJpa jpa) {
+    public JpaAuditLogRepository(
+            SpringDataAuditLogJpa jpa,
+            JdbcTemplate jdbc,
+            @Value("${export.fetch-size:1000}") int exportFetchSize
+    ) {
         this.jpa = jpa;
+        this.jdbc = jdbc;
+        this.exportFetchSize = exportFetchSize;
     }
 
     @Override
@@ -28,18 +67,122 @@ public class JpaAuditLogRepository implements AuditLogRepository {
         jpa.save(e);
     }
 
+    @Override
+    public void saveAll(List<AuditLog> logs) {
+        if (logs.isEmpty()) return;
+
+        // IDENTITY keys stop Hibernate from batching, so go through JDBC directly
+        jdbc.batchUpdate(INSERT_SQL, logs, logs.size(), (ps, log) -> {
+            if (log.actorUserId() == null) ps.setNull(1, Types.BIGINT);
+            else ps.setLong(1, log.actorUserId());
+            ps.setString(2, log.action());
+            ps.setString(3, log.target());
+            ps.setTimestamp(4, Timestamp.from(log.timestamp()));
+        });
+    }
+
     @Override
     public List<AuditLog> findLatest(int limit) {
-        return jpa.findTop100ByOrderByTimestampDesc()
-                .stream()
-                .limit(limit)
-                .map(e -> new AuditLog(
-                        e.getActorUserId(),
-                        e.getAction(),
-                        e.getTarget(),
-                        e.getTimestamp()
-                ))
-                .toList();
+        return search(AuditQuery.ALL, null, limit).items();
     }
-}
 
+    @Override
+    public AuditPage search(AuditQuery query, AuditCursor after, int limit) {
+        int safeLimit = (limit <= 0) ? 50 : Math.min(limit, 200);
+        AuditQuery q = (query != null) ? query : AuditQuery.ALL;
+
+        // only the active predicates go into the SQL, so each filter combination
+        // lands on its matching (column, timestamp, id) index instead of a scan
+        StringBuilder sql = new StringBuilder(SELECT_SQL).append(" WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+
+        if (q.actorUserId() != null) {
+            sql.append(" AND actor_user_id = ?");
+            args.add(q.actorUserId());
+        }
+        if (q.action() != null) {
+            sql.append(" AND action = ?");
+            args.add(q.action());
+        }
+        if (q.from() != null) {
+            sql.append(" AND timestamp >= ?");
+            args.add(Timestamp.from(q.from()));
+        }
+        if (q.to() != null) {
+            sql.append(" AND timestamp < ?");
+            args.add(Timestamp.from(q.to()));
+        }
+        if (after != null) {
+            Timestamp afterTime = Timestamp.from(after.timestamp());
+            sql.append(" AND timestamp <= ? AND (timestamp < ? OR (timestamp = ? AND id < ?))");
+            args.add(afterTime);
+            args.add(afterTime);
+            args.add(afterTime);
+            args.add(after.id());
+        }
+
+        sql.append(" ORDER BY timestamp DESC, id DESC LIMIT ?");
+        args.add(safeLimit);
+
+        List<AuditLog> rows = jdbc.query(sql.toString(), ROW_MAPPER, args.toArray());
+
+        AuditCursor next = null;
+        if (rows.size() == safeLimit) {
+            AuditLog last = rows.get(rows.size() - 1);
+            next = AuditCursor.of(last);
+        }
+        return new AuditPage(rows, next);
+    }
+
+    @Override
+    public List<AuditLog> findOldest(Instant before, int limit) {
+        return jdbc.query(
+                SELECT_SQL + " WHERE timestamp < ? ORDER BY timestamp, id LIMIT ?",
+                ROW_MAPPER,
+                Timestamp.from(before),
+                Math.max(1, limit)
+        );
+    }
+
+    @Override
+    public int deleteByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) return 0;
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return jdbc.update("DELETE FROM audit_logs WHERE id IN (" + placeholders + ")", ids.toArray());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachInRange(Instant from, Instant to, AuditCursor after, Consumer<AuditLog> sink) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL).append(" WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+
+        if (from != null) {
+            sql.append(" AND timestamp >= ?");
+            args.add(Timestamp.from(from));
+        }
+        if (to != null) {
+            sql.append(" AND timestamp < ?");
+            args.add(Timestamp.from(to));
+        }
+        if (after != null) {
+            Timestamp afterTime = Timestamp.from(after.timestamp());
+            sql.append(" AND timestamp >= ? AND (timestamp > ? OR (timestamp = ? AND id > ?))");
+            args.add(afterTime);
+            args.add(afterTime);
+            args.add(afterTime);
+            args.add(after.id());
+        }
+        sql.append(" ORDER BY timestamp, id");
+
+        // forward-only and read-only inside a transaction, so drivers stream the result in fetch-size slices
+        jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(exportFetchSize);
+            for (int i = 0; i < args.size(); i++) ps.setObject(i + 1, args.get(i));
+            return ps;
+        }, (RowCallbackHandler) rs -> sink.accept(ROW_MAPPER.mapRow(rs, 0)));
+    }
+}
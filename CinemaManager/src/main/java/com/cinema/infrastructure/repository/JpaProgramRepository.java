@@ -3,16 +3,22 @@ package com.cinema.infrastructure.repository;
 import com.cinema.domain.entity.Program;
 import com.cinema.domain.entity.value.ProgramId;
 import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramRelationship;
 import com.cinema.domain.enums.ProgramState;
 import com.cinema.domain.port.ProgramRepository;
 import com.cinema.infrastructure.persistence.entity.ProgramEntity;
 import com.cinema.infrastructure.persistence.mapper.ProgramPersistenceMapper;
 import com.cinema.infrastructure.persistence.spring.SpringDataProgramJpa;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -33,47 +39,91 @@ public class JpaProgramRepository implements ProgramRepository {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Program> findByCreator(UserId creatorId) {
         if (creatorId == null || creatorId.value() == null) return List.of();
-        return jpa.findAll().stream()
-                .filter(e -> e.getCreatorUserId().equals(creatorId.value()))
+        return jpa.findByCreatorUserId(creatorId.value()).stream()
                 .map(mapper::toDomain)
                 .toList();
     }
 
     @Override
-    public List<Program> search(
-            String nameContains,
-            ProgramState state,
-            LocalDate fromDate,
-            LocalDate toDate,
-            int offset,
-            int limit
-    ) {
-        int safeOffset = Math.max(0, offset);
+    @Transactional(readOnly = true)
+    public List<Program> search(SearchFilter filter, SearchCursor after, int limit) {
         int safeLimit = Math.max(1, Math.min(limit, 200));
+        SearchFilter f = (filter != null) ? filter : new SearchFilter(null, null, null, null, null);
+
+        return jpa.search(
+                        toLikePattern(f.nameContains()),
+                        f.state(),
+                        f.fromDate(),
+                        f.toDate(),
+                        f.runningOn(),
+                        after != null ? after.startDate() : null,
+                        after != null ? after.lowerName() : null,
+                        after != null ? after.id() : null,
+                        PageRequest.of(0, safeLimit)
+                )
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
 
-        String q = (nameContains == null) ? null : nameContains.trim().toLowerCase();
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PublicProgram> findPublicById(ProgramId id) {
+        if (id == null || id.value() == null) return Optional.empty();
+        return jpa.findPublicById(id.value())
+                .map(p -> withProgrammerIds(List.of(p)).get(0));
+    }
 
-        return jpa.findAll().stream()
-                .filter(e -> q == null || e.getName().toLowerCase().contains(q))
-                .filter(e -> state == null || e.getState() == state)
-                .filter(e -> fromDate == null || (e.getStartDate() != null && !e.getStartDate().isBefore(fromDate)))
-                .filter(e -> toDate == null || (e.getEndDate() != null && !e.getEndDate().isAfter(toDate)))
-                .skip(safeOffset)
-                .limit(safeLimit)
-                .map(mapper::toDomain)
+    @Override
+    @Transactional(readOnly = true)
+    public List<PublicProgram> searchPublic(SearchFilter filter, SearchCursor after, int limit) {
+        int safeLimit = Math.max(1, Math.min(limit, 200));
+        SearchFilter f = (filter != null) ? filter : new SearchFilter(null, null, null, null, null);
+        if (f.state() != null && f.state() != ProgramState.ANNOUNCED) return List.of();
+
+        return withProgrammerIds(jpa.searchPublic(
+                toLikePattern(f.nameContains()),
+                f.fromDate(),
+                f.toDate(),
+                f.runningOn(),
+                after != null ? after.startDate() : null,
+                after != null ? after.lowerName() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, safeLimit)
+        ));
+    }
+
+    private List<PublicProgram> withProgrammerIds(List<PublicProgram> programs) {
+        if (programs.isEmpty()) return programs;
+
+        Map<Long, List<Long>> programmers = new HashMap<>();
+        for (Object[] row : jpa.findProgrammerIds(programs.stream().map(PublicProgram::id).toList())) {
+            programmers.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((Long) row[1]);
+        }
+
+        return programs.stream()
+                .map(p -> p.withProgrammerIds(programmers.getOrDefault(p.id(), List.of())))
                 .toList();
     }
 
+    private static String toLikePattern(String nameContains) {
+        if (nameContains == null || nameContains.isBlank()) return null;
+        String q = nameContains.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + q + "%";
+    }
+
     @Override
     public boolean isProgrammer(ProgramId programId, UserId userId) {
         if (programId == null || programId.value() == null) return false;
         if (userId == null || userId.value() == null) return false;
 
-        return jpa.findById(programId.value())
-                .map(e -> e.getProgrammers().contains(userId.value()))
-                .orElse(false);
+        return jpa.existsProgrammer(programId.value(), userId.value());
     }
 
     @Override
@@ -81,9 +131,42 @@ public class JpaProgramRepository implements ProgramRepository {
         if (programId == null || programId.value() == null) return false;
         if (userId == null || userId.value() == null) return false;
 
-        return jpa.findById(programId.value())
-                .map(e -> e.getStaff().contains(userId.value()))
-                .orElse(false);
+        return jpa.existsStaff(programId.value(), userId.value());
+    }
+
+    @Override
+    public Map<ProgramId, ProgramRelationship> relationships(Collection<ProgramId> programIds, UserId userId) {
+        if (programIds == null || programIds.isEmpty()) return Map.of();
+        if (userId == null || userId.value() == null) return Map.of();
+
+        List<Long> ids = programIds.stream().map(ProgramId::value).distinct().toList();
+
+        Map<ProgramId, ProgramRelationship> result = new HashMap<>();
+        for (Object[] row : jpa.findRelationships(ids, userId.value())) {
+            ProgramId programId = new ProgramId(((Number) row[0]).longValue());
+            ProgramRelationship relationship = ProgramRelationship.valueOf(String.valueOf(row[1]).trim());
+            result.merge(programId, relationship, (a, b) -> a.compareTo(b) <= 0 ? a : b);
+        }
+        return result;
+    }
+
+    @Override
+    public Map<ProgramId, ProgramState> findStates(Collection<ProgramId> programIds) {
+        if (programIds == null || programIds.isEmpty()) return Map.of();
+
+        List<Long> ids = programIds.stream().map(ProgramId::value).distinct().toList();
+
+        Map<ProgramId, ProgramState> result = new HashMap<>();
+        for (Object[] row : jpa.findStates(ids)) {
+            result.put(new ProgramId(((Number) row[0]).longValue()), (ProgramState) row[1]);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean existsById(ProgramId id) {
+        if (id == null || id.value() == null) return false;
+        return jpa.existsById(id.value());
     }
 
     @Override
@@ -0,0 +1,37 @@
+package com.cinema.infrastructure.repository;
+
+import com.cinema.domain.port.RevocationEpochRepository;
+import com.cinema.infrastructure.persistence.entity.RevocationEpochEntity;
+import com.cinema.infrastructure.persistence.spring.SpringDataRevocationEpochJpa;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+public class JpaRevocationEpochRepository implements RevocationEpochRepository {
+
+    private final SpringDataRevocationEpochJpa jpa;
+
+    public JpaRevocationEpochRepository(SpringDataRevocationEpochJpa jpa) {
+        this.jpa = jpa;
+    }
+
+    @Override
+    public Map<String, Long> findAll() {
+        Map<String, Long> epochs = new HashMap<>();
+        jpa.findAll().forEach(e -> epochs.put(e.getScope(), e.getEpoch()));
+        return epochs;
+    }
+
+    @Override
+    @Transactional
+    public long increment(String scope) {
+        if (jpa.increment(scope) == 0) {
+            jpa.save(new RevocationEpochEntity(scope, 1));
+            return 1;
+        }
+        return jpa.findById(scope).map(RevocationEpochEntity::getEpoch).orElseThrow();
+    }
+}
@@ -6,24 +6,63 @@ import com.cinema.domain.entity.value.ScreeningId;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.enums.ScreeningState;
 import com.cinema.domain.port.ScreeningRepository;
+import com.cinema.infrastructure.persistence.entity.ScreeningEntity;
 import com.cinema.infrastructure.persistence.mapper.ScreeningPersistenceMapper;
 import com.cinema.infrastructure.persistence.spring.SpringDataScreeningJpa;
+import com.cinema.infrastructure.search.InMemoryScreeningSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
-
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Repository
 public class JpaScreeningRepository implements ScreeningRepository {
 
     private final SpringDataScreeningJpa jpa;
     private final ScreeningPersistenceMapper mapper;
-
-    public JpaScreeningRepository(SpringDataScreeningJpa jpa, ScreeningPersistenceMapper mapper) {
+    private final InMemoryScreeningSearchIndex searchIndex;
+    private final JdbcTemplate jdbc;
+    private final int exportFetchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public JpaScreeningRepository(SpringDataScreeningJpa jpa,
+                                  ScreeningPersistenceMapper mapper,
+                                  InMemoryScreeningSearchIndex searchIndex,
+                                  JdbcTemplate jdbc,
+                                  @Value("${export.fetch-size:1000}") int exportFetchSize) {
         this.jpa = jpa;
         this.mapper = mapper;
+        this.searchIndex = searchIndex;
+        this.jdbc = jdbc;
+        this.exportFetchSize = exportFetchSize;
     }
 
     @Override
@@ -32,121 +71,269 @@ public class JpaScreeningRepository implements ScreeningRepository {
         return jpa.findById(id.value()).map(mapper::toDomain);
     }
 
+    @Override
+    public List<Screening> findByIds(Collection<ScreeningId> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+
+        List<Long> raw = ids.stream().map(ScreeningId::value).distinct().toList();
+        return jpa.findByIdIn(raw).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
 
     @Override
-    public List<Screening> findByProgram(ProgramId programId, int offset, int limit) {
-        if (programId == null || programId.value() == null) return List.of();
+    public FeedPage findByProgram(ProgramId programId, Visibility visibility, FeedCursor after, int limit) {
+        return findByProgram(programId, null, visibility, after, limit);
+    }
 
-        int safeLimit = (limit <= 0) ? 50 : Math.min(limit, 200);
-        int safeOffset = Math.max(offset, 0);
 
-        int page = safeOffset / safeLimit;
-        int skipInPage = safeOffset % safeLimit;
+    @Override
+    @Transactional(readOnly = true)
+    public FeedPage findByProgram(ProgramId programId, ScreeningState state, Visibility visibility, FeedCursor after, int limit) {
+        if (programId == null || programId.value() == null) return new FeedPage(List.of(), null);
 
-        var pageable = PageRequest.of(page, safeLimit, Sort.by(Sort.Direction.DESC, "createdTime"));
+        int safeLimit = (limit <= 0) ? 50 : Math.min(limit, 200);
+        Long viewerId = (visibility != null && visibility.viewer() != null) ? visibility.viewer().value() : null;
+
+        return toFeedPage(jpa.findProgramFeed(
+                programId.value(),
+                state,
+                visibility != null,
+                viewerId,
+                visibility != null && visibility.includeAssignedToViewer(),
+                visibility != null && visibility.includeScheduled(),
+                after != null ? after.createdTime() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, safeLimit)
+        ), safeLimit);
+    }
 
-        return jpa.findByProgramId(programId.value(), pageable)
-                .stream()
-                .skip(skipInPage)
-                .map(mapper::toDomain)
-                .toList();
+    @Override
+    @Transactional
+    public int rejectAllInState(ProgramId programId, ScreeningState state, String reason) {
+        if (programId == null || programId.value() == null) return 0;
+        if (state == null || state == ScreeningState.REJECTED) return 0;
+
+        return jpa.rejectAllInState(
+                programId.value(),
+                state,
+                ScreeningState.REJECTED,
+                Screening.requireRejectionReason(reason)
+        );
     }
 
 
     @Override
-    public List<Screening> findByProgram(ProgramId programId, ScreeningState state, int offset, int limit) {
-        if (programId == null || programId.value() == null) return List.of();
-        if (state == null) return findByProgram(programId, offset, limit);
+    public FeedPage findBySubmitter(UserId submitterId, FeedCursor after, int limit) {
+        return findBySubmitter(submitterId, null, after, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FeedPage findBySubmitter(UserId submitterId, ScreeningState state, FeedCursor after, int limit) {
+        if (submitterId == null || submitterId.value() == null) return new FeedPage(List.of(), null);
 
         int safeLimit = (limit <= 0) ? 50 : Math.min(limit, 200);
-        int safeOffset = Math.max(offset, 0);
 
-        int page = safeOffset / safeLimit;
-        int skipInPage = safeOffset % safeLimit;
+        return toFeedPage(jpa.findSubmitterFeed(
+                submitterId.value(),
+                state,
+                after != null ? after.createdTime() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, safeLimit)
+        ), safeLimit);
+    }
 
-        var pageable = PageRequest.of(page, safeLimit, Sort.by(Sort.Direction.DESC, "createdTime"));
 
-        return jpa.findByProgramIdAndScreeningState(programId.value(), state, pageable)
-                .stream()
-                .skip(skipInPage)
-                .map(mapper::toDomain)
-                .toList();
-    }
 
     @Override
-    public List<Screening> findByProgramAndState(ProgramId programId, ScreeningState state) {
-        if (programId == null || programId.value() == null) return List.of();
-        if (state == null) return List.of();
+    @Transactional(readOnly = true)
+    public FeedPage findByStaffMember(UserId staffId, FeedCursor after, int limit) {
+        if (staffId == null || staffId.value() == null) return new FeedPage(List.of(), null);
 
-        return jpa.findByProgramIdAndScreeningState(programId.value(), state)
-                .stream()
-                .map(mapper::toDomain)
-                .toList();
+        int safeLimit = (limit <= 0) ? 50 : Math.min(limit, 200);
+
+        return toFeedPage(jpa.findStaffFeed(
+                staffId.value(),
+                after != null ? after.createdTime() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, safeLimit)
+        ), safeLimit);
+    }
+
+    private FeedPage toFeedPage(List<ScreeningEntity> rows, int limit) {
+        FeedCursor next = null;
+        if (rows.size() == limit) {
+            ScreeningEntity last = rows.get(rows.size() - 1);
+            next = new FeedCursor(last.getCreatedTime(), last.getId());
+        }
+        return new FeedPage(rows.stream().map(mapper::toDomain).toList(), next);
     }
 
 
     @Override
-    public List<Screening> findBySubmitter(UserId submitterId, int offset, int limit) {
-        if (submitterId == null || submitterId.value() == null) return List.of();
+    @Transactional(readOnly = true)
+    public List<Screening> search(SearchQuery query, int offset, int limit) {
+        if (query == null) return List.of();
 
         int safeLimit = (limit <= 0) ? 50 : Math.min(limit, 200);
         int safeOffset = Math.max(offset, 0);
 
-        int page = safeOffset / safeLimit;
-        int skipInPage = safeOffset % safeLimit;
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ScreeningEntity> cq = cb.createQuery(ScreeningEntity.class);
+        Root<ScreeningEntity> s = cq.from(ScreeningEntity.class);
 
-        var pageable = PageRequest.of(page, safeLimit, Sort.by(Sort.Direction.DESC, "createdTime"));
+        cq.select(s)
+                .where(searchPredicates(cb, s, query).toArray(Predicate[]::new))
+                .orderBy(searchOrder(cb, s, query.sort()));
 
-        return jpa.findBySubmitterId(submitterId.value(), pageable)
-                .stream()
-                .skip(skipInPage)
+        return entityManager.createQuery(cq)
+                .setFirstResult(safeOffset)
+                .setMaxResults(safeLimit)
+                .getResultStream()
                 .map(mapper::toDomain)
                 .toList();
     }
 
     @Override
-    public List<Screening> findBySubmitter(UserId submitterId, ScreeningState state, int offset, int limit) {
-        if (submitterId == null || submitterId.value() == null) return List.of();
-        if (state == null) return findBySubmitter(submitterId, offset, limit);
+    @Transactional(readOnly = true)
+    public Optional<PublicScreening> findPublicById(ScreeningId id) {
+        if (id == null || id.value() == null) return Optional.empty();
+        return jpa.findPublicById(id.value());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PublicScreening> searchPublic(SearchQuery query, int offset, int limit) {
+        if (query == null) return List.of();
 
         int safeLimit = (limit <= 0) ? 50 : Math.min(limit, 200);
         int safeOffset = Math.max(offset, 0);
 
-        int page = safeOffset / safeLimit;
-        int skipInPage = safeOffset % safeLimit;
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PublicScreening> cq = cb.createQuery(PublicScreening.class);
+        Root<ScreeningEntity> s = cq.from(ScreeningEntity.class);
+
+        cq.select(cb.construct(
+                        PublicScreening.class,
+                        s.get("id"),
+                        s.get("programId"),
+                        s.get("title"),
+                        s.get("genres"),
+                        s.get("startTime"),
+                        s.get("auditoriumName")))
+                .where(searchPredicates(cb, s, query).toArray(Predicate[]::new))
+                .orderBy(searchOrder(cb, s, query.sort()));
+
+        return entityManager.createQuery(cq)
+                .setFirstResult(safeOffset)
+                .setMaxResults(safeLimit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PublicFeedPage findPublicByProgram(ProgramId programId, FeedCursor after, int limit) {
+        if (programId == null || programId.value() == null) return new PublicFeedPage(List.of(), null);
 
-        var pageable = PageRequest.of(page, safeLimit, Sort.by(Sort.Direction.DESC, "createdTime"));
+        int safeLimit = (limit <= 0) ? 50 : Math.min(limit, 200);
 
-        return jpa.findBySubmitterIdAndScreeningState(submitterId.value(), state, pageable)
-                .stream()
-                .skip(skipInPage)
-                .map(mapper::toDomain)
-                .toList();
+        List<Object[]> rows = jpa.findPublicProgramFeed(
+                programId.value(),
+                after != null ? after.createdTime() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, safeLimit)
+        );
+
+        FeedCursor next = null;
+        if (rows.size() == safeLimit) {
+            Object[] last = rows.get(rows.size() - 1);
+            next = new FeedCursor((LocalDateTime) last[1], (Long) last[0]);
+        }
+        return new PublicFeedPage(rows.stream().map(r -> (PublicScreening) r[2]).toList(), next);
     }
 
+    private List<Predicate> searchPredicates(CriteriaBuilder cb, Root<ScreeningEntity> s, SearchQuery q) {
+        List<Predicate> where = new ArrayList<>();
 
+        if (q.programId() != null) where.add(cb.equal(s.get("programId"), q.programId().value()));
+        if (q.submitterId() != null) where.add(cb.equal(s.get("submitterId"), q.submitterId().value()));
+        if (q.staffMemberId() != null) where.add(cb.equal(s.get("staffMemberId"), q.staffMemberId().value()));
+        if (q.state() != null) where.add(cb.equal(s.get("screeningState"), q.state()));
 
-    @Override
-    public List<Screening> findByStaffMember(UserId staffId, int offset, int limit) {
-        if (staffId == null || staffId.value() == null) return List.of();
+        for (String word : q.titleWords()) {
+            where.add(cb.like(cb.lower(s.get("title")), containsPattern(word), '\\'));
+        }
+        for (String word : q.genreWords()) {
+            where.add(cb.like(cb.lower(s.get("genres")), containsPattern(word), '\\'));
+        }
 
-        int safeLimit = (limit <= 0) ? 50 : Math.min(limit, 200);
-        int safeOffset = Math.max(offset, 0);
+        if (q.fromDate() != null) {
+            where.add(cb.greaterThanOrEqualTo(s.get("startTime"), q.fromDate().atStartOfDay()));
+        }
+        if (q.toDate() != null) {
+            where.add(cb.lessThan(s.get("startTime"), q.toDate().plusDays(1).atStartOfDay()));
+        }
 
-        int page = safeOffset / safeLimit;
-        int skipInPage = safeOffset % safeLimit;
+        if (q.visibility() != null) where.add(visibilityPredicate(cb, s, q.visibility()));
 
-        var pageable = PageRequest.of(page, safeLimit, Sort.by(Sort.Direction.DESC, "createdTime"));
+        return where;
+    }
 
-        return jpa.findByStaffMemberId(staffId.value(), pageable)
-                .stream()
-                .skip(skipInPage)
-                .map(mapper::toDomain)
-                .toList();
+    private Predicate visibilityPredicate(CriteriaBuilder cb, Root<ScreeningEntity> s, Visibility v) {
+        List<Predicate> anyOf = new ArrayList<>();
+
+        if (v.viewer() != null) {
+            anyOf.add(cb.equal(s.get("submitterId"), v.viewer().value()));
+            if (v.includeAssignedToViewer()) {
+                anyOf.add(cb.equal(s.get("staffMemberId"), v.viewer().value()));
+            }
+        }
+        if (v.includeScheduled()) {
+            anyOf.add(cb.equal(s.get("screeningState"), ScreeningState.SCHEDULED));
+        }
+
+        return cb.or(anyOf.toArray(Predicate[]::new));
     }
 
+    private List<Order> searchOrder(CriteriaBuilder cb, Root<ScreeningEntity> s, SortOrder sort) {
+        Expression<String> title = cb.lower(s.get("title"));
+
+        if (sort == SortOrder.TIMETABLE) {
+            Expression<Integer> unscheduledFirst = cb.<Integer>selectCase()
+                    .when(cb.isNull(s.get("startTime")), 0)
+                    .otherwise(1);
+            return List.of(
+                    cb.asc(unscheduledFirst),
+                    cb.asc(s.get("startTime")),
+                    cb.asc(title),
+                    cb.asc(s.get("id"))
+            );
+        }
+
+        return List.of(
+                cb.asc(cb.coalesce(cb.lower(s.get("genres")), "")),
+                cb.asc(title),
+                cb.asc(s.get("id"))
+        );
+    }
+
+    private static String containsPattern(String word) {
+        String w = word.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + w + "%";
+    }
 
 
+    @Override
+    public boolean existsById(ScreeningId id) {
+        if (id == null || id.value() == null) return false;
+        return jpa.existsById(id.value());
+    }
+
     @Override
     public boolean existsByProgramIdAndSubmitterId(ProgramId programId, UserId submitterId) {
         if (programId == null || programId.value() == null) return false;
@@ -154,6 +341,18 @@ public class JpaScreeningRepository implements ScreeningRepository {
         return jpa.existsByProgramIdAndSubmitterId(programId.value(), submitterId.value());
     }
 
+    @Override
+    public Set<ProgramId> findProgramIdsWithSubmitter(Collection<ProgramId> programIds, UserId submitterId) {
+        if (programIds == null || programIds.isEmpty()) return Set.of();
+        if (submitterId == null || submitterId.value() == null) return Set.of();
+
+        List<Long> ids = programIds.stream().map(ProgramId::value).distinct().toList();
+        return jpa.findProgramIdsWithSubmitter(ids, submitterId.value())
+                .stream()
+                .map(ProgramId::new)
+                .collect(Collectors.toSet());
+    }
+
     @Override
     public long countByProgramAndState(ProgramId programId, ScreeningState state) {
         if (programId == null || programId.value() == null) return 0;
@@ -164,6 +363,7 @@ public class JpaScreeningRepository implements ScreeningRepository {
     @Override
     public Screening save(Screening screening) {
         var saved = jpa.save(mapper.toEntity(screening));
+        afterCommit(() -> searchIndex.index(saved));
         return mapper.toDomain(saved);
     }
 
@@ -171,5 +371,70 @@ public class JpaScreeningRepository implements ScreeningRepository {
     public void deleteById(ScreeningId id) {
         if (id == null || id.value() == null) return;
         jpa.deleteById(id.value());
+        afterCommit(() -> searchIndex.remove(id.value()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachInCatalog(LocalDate fromDate, LocalDate toDate, Consumer<CatalogRow> sink) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT id, program_id, submitter_id, title, genres, description, auditorium_name,
+                       start_time, end_time, screening_state, staff_member_id, review_score,
+                       created_time, submitted_time, reviewed_time, final_locked
+                FROM screenings WHERE 1 = 1""");
+        List<Object> args = new ArrayList<>();
+
+        if (fromDate != null) {
+            sql.append(" AND start_time >= ?");
+            args.add(Timestamp.valueOf(fromDate.atStartOfDay()));
+        }
+        if (toDate != null) {
+            sql.append(" AND start_time < ?");
+            args.add(Timestamp.valueOf(toDate.plusDays(1).atStartOfDay()));
+        }
+        sql.append((fromDate != null || toDate != null) ? " ORDER BY start_time, id" : " ORDER BY id");
+
+        // plain forward-only JDBC: no entities, so the persistence context never grows with the export
+        jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(exportFetchSize);
+            for (int i = 0; i < args.size(); i++) ps.setObject(i + 1, args.get(i));
+            return ps;
+        }, (RowCallbackHandler) rs -> sink.accept(new CatalogRow(
+                rs.getLong("id"),
+                rs.getLong("program_id"),
+                rs.getLong("submitter_id"),
+                rs.getString("title"),
+                rs.getString("genres"),
+                rs.getString("description"),
+                rs.getString("auditorium_name"),
+                toLocalDateTime(rs.getTimestamp("start_time")),
+                toLocalDateTime(rs.getTimestamp("end_time")),
+                rs.getString("screening_state"),
+                rs.getObject("staff_member_id", Long.class),
+                rs.getObject("review_score", Integer.class),
+                toLocalDateTime(rs.getTimestamp("created_time")),
+                toLocalDateTime(rs.getTimestamp("submitted_time")),
+                toLocalDateTime(rs.getTimestamp("reviewed_time")),
+                rs.getBoolean("final_locked")
+        )));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp ts) {
+        return ts != null ? ts.toLocalDateTime() : null;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -0,0 +1,74 @@
+package com.cinema.infrastructure.repository;
+
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.port.SessionRepository;
+import com.cinema.infrastructure.persistence.entity.UserSessionEntity;
+import com.cinema.infrastructure.persistence.spring.SpringDataUserSessionJpa;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class JpaSessionRepository implements SessionRepository {
+
+    private final SpringDataUserSessionJpa jpa;
+    private final JdbcTemplate jdbc;
+
+    public JpaSessionRepository(SpringDataUserSessionJpa jpa, JdbcTemplate jdbc) {
+        this.jpa = jpa;
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public Optional<Session> findById(String sessionId) {
+        return jpa.findById(sessionId).map(this::toDomain);
+    }
+
+    @Override
+    public void lockUser(UserId userId) {
+        jdbc.queryForList("SELECT id FROM users WHERE id = ? FOR UPDATE", Long.class, userId.value());
+    }
+
+    @Override
+    public List<Session> findByUser(UserId userId) {
+        return jpa.findByUserIdOrderByCreatedAtAsc(userId.value()).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public Session Save(Session session) {
+        UserSessionEntity saved = jpa.save(new UserSessionEntity(
+                session.sessionId(),
+                session.userId().value(),
+                session.createdAt(),
+                session.expiresAt(),
+                session.refreshJti()
+        ));
+        return toDomain(saved);
+    }
+
+    @Override
+    @Transactional
+    public boolean rotateRefresh(String sessionId, String presentedJti, String nextJti, Instant expiresAt) {
+        if (sessionId == null || presentedJti == null) return false;
+        return jpa.rotateRefresh(sessionId, presentedJti, nextJti, expiresAt) == 1;
+    }
+
+    @Override
+    public void deleteById(String sessionId) {
+        if (jpa.existsById(sessionId)) jpa.deleteById(sessionId);
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(Instant now) {
+        return jpa.deleteExpired(now);
+    }
+
+    private Session toDomain(UserSessionEntity e) {
+        return new Session(e.getSessionId(), new UserId(e.getUserId()), e.getCreatedAt(), e.getExpiresAt(), e.getRefreshJti());
+    }
+}
@@ -8,8 +8,10 @@ import com.cinema.domain.port.UserRepository;
 import com.cinema.infrastructure.persistence.entity.UserEntity;
 import com.cinema.infrastructure.persistence.mapper.UserPersistenceMapper;
 import com.cinema.infrastructure.persistence.spring.SpringDataUserJpa;
+import com.cinema.infrastructure.security.RevocationEpochs;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,8 +19,12 @@ import java.util.Optional;
 public class JpaUserRepository implements UserRepository {
     private final SpringDataUserJpa jpa;
     private final UserPersistenceMapper mapper = new UserPersistenceMapper();
+    private final RevocationEpochs revocationEpochs;
 
-    public JpaUserRepository(SpringDataUserJpa jpa){ this.jpa = jpa; }
+    public JpaUserRepository(SpringDataUserJpa jpa, RevocationEpochs revocationEpochs){
+        this.jpa = jpa;
+        this.revocationEpochs = revocationEpochs;
+    }
 
     @Override
     public Optional<User> findById(UserId id) {
@@ -52,10 +58,23 @@ public class JpaUserRepository implements UserRepository {
 
     @Override
     public User Save(User user) {
+        boolean revoke = user.id() != null && user.id().value() != null
+                && jpa.findById(user.id().value())
+                        .map(before -> (before.isActive() && !user.isActive()) || before.getBaseRole() != user.baseRole())
+                        .orElse(false);
+
         UserEntity saved = jpa.save(mapper.toEntity(user));
+
+        // requests are not checked against the user row, so deactivation and role changes revoke by epoch
+        if (revoke) revocationEpochs.revokeUser(user.id());
         return mapper.toDomain(saved);
     }
 
+    // a login only stamps the row; going through Save would read it first to detect revocations
+    @Override
+    public void recordLogin(UserId id, Instant at) {
+        jpa.recordLogin(id.value(), at);
+    }
 
     @Override
     public void deleteById(UserId id) {
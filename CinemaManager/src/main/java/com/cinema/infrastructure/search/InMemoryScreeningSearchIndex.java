@@ -0,0 +1,215 @@
+package com.cinema.infrastructure.search;
+
+import com.cinema.domain.entity.value.ScreeningId;
+import com.cinema.domain.port.ScreeningSearchIndex;
+import com.cinema.infrastructure.persistence.entity.ScreeningEntity;
+import com.cinema.infrastructure.persistence.spring.SpringDataScreeningJpa;
+import jakarta.annotation.PostConstruct;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+@Component
+public class InMemoryScreeningSearchIndex implements ScreeningSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final int MAX_TOKEN_LENGTH = 64;
+    private static final int REBUILD_BATCH = 1000;
+
+    private final SpringDataScreeningJpa jpa;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, String[]> documents = new HashMap<>();
+
+    public InMemoryScreeningSearchIndex(SpringDataScreeningJpa jpa) {
+        this.jpa = Objects.requireNonNull(jpa);
+    }
+
+
+    @PostConstruct
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long afterId = 0;
+        while (true) {
+            List<Object[]> rows = jpa.findSearchableFields(afterId, PageRequest.of(0, REBUILD_BATCH));
+            if (rows.isEmpty()) break;
+
+            for (Object[] row : rows) {
+                afterId = ((Number) row[0]).longValue();
+                index(afterId, (String) row[1], (String) row[2], (String) row[3], (String) row[4]);
+            }
+
+            if (rows.size() < REBUILD_BATCH) break;
+        }
+    }
+
+    public void index(ScreeningEntity e) {
+        if (e == null || e.getId() == null) return;
+        index(e.getId(), e.getTitle(), e.getGenres(), e.getCastNames(), e.getDescription());
+    }
+
+    public void index(long id, String... fields) {
+        String[] tokens = tokenize(fields);
+
+        lock.writeLock().lock();
+        try {
+            String[] previous = documents.put(id, tokens);
+            if (previous != null) {
+                for (String token : previous) removePosting(token, id);
+            }
+            for (String token : tokens) {
+                postings.computeIfAbsent(token, t -> new PostingList()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            String[] previous = documents.remove(id);
+            if (previous == null) return;
+            for (String token : previous) removePosting(token, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ScreeningId> search(String text, ScreeningId before, int limit) {
+        String[] tokens = tokenize(text);
+        if (tokens.length == 0 || limit <= 0) return List.of();
+
+        long upperExclusive = (before != null && before.value() != null) ? before.value() : Long.MAX_VALUE;
+
+        lock.readLock().lock();
+        try {
+            PostingList[] lists = new PostingList[tokens.length];
+            for (int i = 0; i < tokens.length; i++) {
+                lists[i] = postings.get(tokens[i]);
+                if (lists[i] == null) return List.of();
+            }
+            Arrays.sort(lists, Comparator.comparingInt(PostingList::size));
+
+
+            List<ScreeningId> result = new ArrayList<>(Math.min(limit, lists[0].size()));
+            int[] positions = new int[lists.length];
+            for (int j = 0; j < lists.length; j++) positions[j] = lists[j].indexBelow(upperExclusive);
+
+            while (result.size() < limit) {
+                long candidate = Long.MAX_VALUE;
+                for (int j = 0; j < lists.length; j++) {
+                    if (positions[j] < 0) return result;
+                    candidate = Math.min(candidate, lists[j].get(positions[j]));
+                }
+
+                boolean matched = true;
+                for (int j = 0; j < lists.length; j++) {
+                    positions[j] = lists[j].floorIndex(candidate, positions[j]);
+                    if (positions[j] < 0) return result;
+                    if (lists[j].get(positions[j]) != candidate) matched = false;
+                }
+
+                if (matched) {
+                    result.add(new ScreeningId(candidate));
+                    for (int j = 0; j < lists.length; j++) positions[j]--;
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removePosting(String token, long id) {
+        PostingList list = postings.get(token);
+        if (list == null) return;
+        list.remove(id);
+        if (list.size() == 0) postings.remove(token);
+    }
+
+    static String[] tokenize(String... fields) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (field == null || field.isBlank()) continue;
+            for (String token : TOKEN_SEPARATOR.split(field.toLowerCase(Locale.ROOT))) {
+                if (token.isEmpty()) continue;
+                tokens.add(token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token);
+            }
+        }
+        return tokens.toArray(String[]::new);
+    }
+
+
+    static final class PostingList {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        int size() { return size; }
+
+        long get(int index) { return ids[index]; }
+
+        int floorIndex(long value, int from) {
+            if (from < 0 || ids[from] <= value) return from;
+
+            int step = 1;
+            while (from - step >= 0 && ids[from - step] > value) step <<= 1;
+
+            int low = Math.max(0, from - step);
+            int pos = Arrays.binarySearch(ids, low, from - (step >> 1), value);
+            return (pos >= 0) ? pos : -pos - 2;
+        }
+
+        int indexBelow(long upperExclusive) {
+            int pos = Arrays.binarySearch(ids, 0, size, upperExclusive);
+            return (pos >= 0) ? pos - 1 : -pos - 2;
+        }
+
+        void add(long id) {
+            if (size > 0 && id <= ids[size - 1]) {
+                int pos = Arrays.binarySearch(ids, 0, size, id);
+                if (pos >= 0) return;
+                insertAt(-pos - 1, id);
+                return;
+            }
+            insertAt(size, id);
+        }
+
+        void remove(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos < 0) return;
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            size--;
+        }
+
+        private void insertAt(int pos, long id) {
+            if (size == ids.length) ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+            ids[pos] = id;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.cinema.infrastructure.security;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+final class AfterCommit {
+
+    private AfterCommit() {}
+
+
+    // in-memory state that mirrors a table is only updated once the table change is durable;
+    // outside a transaction the write already happened, so the update runs immediately
+    static void run(Runnable apply) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+}
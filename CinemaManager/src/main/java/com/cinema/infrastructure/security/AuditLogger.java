@@ -1,27 +1,68 @@
-
 package com.cinema.infrastructure.security;
 
 import com.cinema.domain.entity.AuditLog;
 import com.cinema.domain.entity.value.UserId;
-import com.cinema.domain.port.AuditLogRepository;
+import com.cinema.infrastructure.audit.AsyncAuditWriter;
+import com.cinema.infrastructure.audit.AuditActivityCounters;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
 
 @Component
 public class AuditLogger {
 
-    private final AuditLogRepository repo;
+    private final AsyncAuditWriter writer;
+    private final AuditActivityCounters counters;
 
-    public AuditLogger(AuditLogRepository repo) {
-        this.repo = repo;
+    public AuditLogger(AsyncAuditWriter writer, AuditActivityCounters counters) {
+        this.writer = writer;
+        this.counters = counters;
     }
 
     public void logLogin(UserId userId) {
-        repo.save(new AuditLog(userId.value(), "LOGIN", null, Instant.now()));
+        record(new AuditLog(userId.value(), "LOGIN", null, Instant.now()));
     }
 
     public void logAction(UserId userId, String action, String target) {
-        repo.save(new AuditLog(userId.value(), action, target, Instant.now()));
+        record(new AuditLog(userId.value(), action, target, Instant.now()));
+    }
+
+    // for rejected attempts (failed logins, token reuse) that must be kept even when the caller rolls back
+    public void logFailure(UserId userId, String action, String target) {
+        AuditLog log = new AuditLog(userId.value(), action, target, Instant.now());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(log);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                submit(log);
+            }
+        });
+    }
+
+    private void record(AuditLog log) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(log);
+            return;
+        }
+
+        // an action is only recorded once it has happened; after commit, rows it created are also visible
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(log);
+            }
+        });
+    }
+
+    private void submit(AuditLog log) {
+        counters.increment(log.action(), log.timestamp());
+        writer.submit(log);
     }
 }
@@ -0,0 +1,187 @@
+package com.cinema.infrastructure.security;
+
+import com.cinema.domain.Exceptions.ServiceUnavailableException;
+import com.cinema.domain.entity.value.HashedPassword;
+import com.cinema.domain.port.PasswordHasher;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class BoundedPasswordHasher implements PasswordHasher {
+
+    private static final int MIN_COST = 4;
+    private static final int MAX_CALIBRATED_COST = 16;
+
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final long retryAfterSeconds;
+    private final int cost;
+    private final Map<Integer, Long> calibration;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public BoundedPasswordHasher(
+            @Value("${security.password-hasher.threads:0}") int threads,
+            @Value("${security.password-hasher.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password-hasher.retry-after-seconds:2}") long retryAfterSeconds,
+            @Value("${security.password-hasher.cost:10}") int cost,
+            @Value("${security.password-hasher.target-verify-millis:0}") long targetVerifyMillis
+    ) {
+        int poolSize = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+        if (queueCapacity <= 0) throw new IllegalArgumentException("queue-capacity must be positive");
+
+        this.queueCapacity = queueCapacity;
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+
+        if (targetVerifyMillis > 0) {
+            this.calibration = measureVerifyMicros(TimeUnit.MILLISECONDS.toMicros(targetVerifyMillis));
+            this.cost = pickCost(calibration, TimeUnit.MILLISECONDS.toMicros(targetVerifyMillis));
+        } else {
+            if (cost < MIN_COST || cost > 31) throw new IllegalArgumentException("cost must be between 4 and 31");
+            this.calibration = Map.of();
+            this.cost = cost;
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hasher-" + sequence.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+
+    @Override
+    public HashedPassword hash(String rawPassword) {
+        return run(() -> HashedPassword.fromRaw(rawPassword, cost));
+    }
+
+    @Override
+    public boolean matches(HashedPassword hashed, String rawPassword) {
+        if (hashed == null) return false;
+        return run(() -> hashed.matches(rawPassword));
+    }
+
+    @Override
+    public boolean needsRehash(HashedPassword hashed) {
+        return hashed != null && hashed.cost() != cost;
+    }
+
+    public Stats stats() {
+        long count = started.sum();
+        return new Stats(
+                executor.getCorePoolSize(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                queueCapacity,
+                executor.getCompletedTaskCount(),
+                rejected.sum(),
+                count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalWaitNanos.sum() / count),
+                TimeUnit.NANOSECONDS.toMicros(maxWaitNanos.get()),
+                cost,
+                calibration
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> work) {
+        long enqueuedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                recordWait(System.nanoTime() - enqueuedAt);
+                return work.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Authentication is busy, please retry shortly", retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Authentication was interrupted", retryAfterSeconds);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static Map<Integer, Long> measureVerifyMicros(long targetMicros) {
+        Map<Integer, Long> result = new TreeMap<>();
+        String sample = "calibration-" + System.nanoTime();
+
+        for (int c = MIN_COST; c <= MAX_CALIBRATED_COST; c++) {
+            HashedPassword hashed = HashedPassword.fromRaw(sample, c);
+
+            long best = Long.MAX_VALUE;
+            for (int i = 0; i < 3; i++) {
+                long start = System.nanoTime();
+                hashed.matches(sample);
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            long micros = TimeUnit.NANOSECONDS.toMicros(best);
+            result.put(c, micros);
+
+            if (micros > targetMicros) break;
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static int pickCost(Map<Integer, Long> verifyMicros, long targetMicros) {
+        int chosen = MIN_COST;
+        for (var e : verifyMicros.entrySet()) {
+            if (e.getValue() <= targetMicros) chosen = Math.max(chosen, e.getKey());
+        }
+        return chosen;
+    }
+
+    private void recordWait(long waitNanos) {
+        started.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+
+    public record Stats(
+            int threads,
+            int active,
+            int queueDepth,
+            int queueCapacity,
+            long completed,
+            long rejected,
+            long avgWaitMicros,
+            long maxWaitMicros,
+            int cost,
+            Map<Integer, Long> calibrationVerifyMicros
+    ) {}
+}
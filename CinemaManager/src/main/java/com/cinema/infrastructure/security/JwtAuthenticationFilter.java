@@ -1,9 +1,7 @@
 package com.cinema.infrastructure.security;
 
-import com.cinema.domain.entity.User;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.enums.BaseRole;
-import com.cinema.domain.port.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +16,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
@@ -26,11 +25,17 @@ import java.util.Objects;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenValidator tokenValidator;
-    private final UserRepository userRepository;
-
-    public JwtAuthenticationFilter(TokenValidator tokenValidator, UserRepository userRepository) {
+    private final SessionRegistry sessionRegistry;
+    private final RevocationEpochs revocationEpochs;
+
+    public JwtAuthenticationFilter(
+            TokenValidator tokenValidator,
+            SessionRegistry sessionRegistry,
+            RevocationEpochs revocationEpochs
+    ) {
         this.tokenValidator = Objects.requireNonNull(tokenValidator);
-        this.userRepository = Objects.requireNonNull(userRepository);
+        this.sessionRegistry = Objects.requireNonNull(sessionRegistry);
+        this.revocationEpochs = Objects.requireNonNull(revocationEpochs);
     }
 
     @Override
@@ -65,36 +70,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            TokenValidator.TokenData data = tokenValidator.validate(token);
+            ByteBuffer digest = (request.getAttribute(TokenValidator.DIGEST_ATTRIBUTE) instanceof ByteBuffer d)
+                    ? d
+                    : tokenValidator.digestOf(token);
+            TokenValidator.TokenData data = tokenValidator.validate(token, digest);
 
             UserId userId = data.userId();
-            String jti = data.jti();
-
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new TokenValidator.InvalidTokenException("User not found"));
-
+            String sessionId = data.sessionId();
 
-            if (!user.isActive()) {
+            // deactivation and role changes bump the user epoch, so the user row is only read on refresh
+            if (!revocationEpochs.isCurrent(userId, data.role(), data.epochs())) {
                 SecurityContextHolder.clearContext();
-                writeUnauthorized(response, "ACCOUNT_INACTIVE", "Account is inactive");
+                writeUnauthorized(response, "TOKEN_REVOKED", "Token has been revoked");
                 return;
             }
 
 
-            String currentJti = user.currentJti();
-            if (currentJti == null || !currentJti.equals(jti)) {
+            if (!sessionRegistry.isActive(userId, sessionId)) {
                 SecurityContextHolder.clearContext();
                 writeUnauthorized(response, "TOKEN_REVOKED", "Token is not current");
                 return;
             }
 
 
-            BaseRole role = user.baseRole();
+            BaseRole role = data.role();
             GrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role.name());
 
             Authentication auth = new UsernamePasswordAuthenticationToken(
                     userId.value(),
-                    null,
+                    sessionId,
                     List.of(authority)
             );
             ((UsernamePasswordAuthenticationToken) auth)
@@ -0,0 +1,184 @@
+package com.cinema.infrastructure.security;
+
+import com.cinema.domain.policy.RateLimitPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class LoginAttemptLimiter {
+
+    private static final long WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final int STRIPES = 64;
+
+    private final RateLimitPolicy policy;
+    private final Clock clock;
+    private final int maxTrackedKeys;
+
+    private final Object[] stripes = new Object[STRIPES];
+    private final Map<String, Window> byUsername = new ConcurrentHashMap<>();
+    private final Map<String, Window> byIp = new ConcurrentHashMap<>();
+
+    public LoginAttemptLimiter(
+            RateLimitPolicy policy,
+            Clock clock,
+            @Value("${security.login-limiter.max-tracked-keys:100000}") int maxTrackedKeys
+    ) {
+        this.policy = Objects.requireNonNull(policy);
+        this.clock = Objects.requireNonNull(clock);
+        if (maxTrackedKeys <= 0) throw new IllegalArgumentException("max-tracked-keys must be positive");
+        this.maxTrackedKeys = maxTrackedKeys;
+        for (int i = 0; i < STRIPES; i++) stripes[i] = new Object();
+    }
+
+
+    public long tryAcquire(String username, String ip) {
+        long now = clock.millis();
+        String userKey = userKey(username);
+
+        int a = (userKey != null) ? stripeIndex(userKey) : -1;
+        int b = (ip != null) ? stripeIndex(ip) : -1;
+        if (a < 0 && b < 0) return 0;
+
+        // check and record under both stripes, taken in index order, so concurrent attempts cannot
+        // all pass the check before any of them is counted
+        int first = (a < 0 || b < 0) ? Math.max(a, b) : Math.min(a, b);
+        int second = Math.max(a, b);
+        synchronized (stripes[first]) {
+            synchronized (stripes[second]) {
+                long wait = Math.max(waitMillis(byUsername, userKey, now), waitMillis(byIp, ip, now));
+                if (wait > 0) return toRetryAfterSeconds(wait);
+
+                if (userKey != null) window(byUsername, userKey, now).current++;
+                if (ip != null) window(byIp, ip, now).current++;
+                return 0;
+            }
+        }
+    }
+
+    public boolean recordFailure(String username) {
+        String key = userKey(username);
+        if (key == null) return false;
+
+        long now = clock.millis();
+        synchronized (stripeFor(key)) {
+            Window w = window(byUsername, key, now);
+            w.failures++;
+            if (!policy.shouldLock(w.failures)) return false;
+
+            w.failures = 0;
+            w.lockedUntil = now + policy.lockoutDuration().toMillis();
+            return true;
+        }
+    }
+
+    public void recordSuccess(String username) {
+        String key = userKey(username);
+        if (key == null) return;
+
+        synchronized (stripeFor(key)) {
+            Window w = byUsername.get(key);
+            if (w != null) w.failures = 0;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.login-limiter.sweep-interval-millis:60000}")
+    public void sweep() {
+        long now = clock.millis();
+        sweep(byUsername, now);
+        sweep(byIp, now);
+    }
+
+    // callers hold the key's stripe
+    private long waitMillis(Map<String, Window> windows, String key, long now) {
+        if (key == null) return 0;
+
+        Window w = windows.get(key);
+        if (w == null) return 0;
+
+        if (w.lockedUntil > now) return w.lockedUntil - now;
+
+        w.roll(now);
+        if (w.estimate(now) + 1 <= policy.loginAttemptsPerMinute()) return 0;
+        return w.windowStart + WINDOW_MILLIS - now;
+    }
+
+    // callers hold the key's stripe
+    private Window window(Map<String, Window> windows, String key, long now) {
+        Window w = windows.get(key);
+        if (w == null) {
+            // active lockouts rank by their end, so a sampled eviction drops idle windows first
+            if (windows.size() >= maxTrackedKeys) {
+                SampledEviction.evictOne(windows, v -> Math.max(v.windowStart, v.lockedUntil));
+            }
+            w = new Window(now - now % WINDOW_MILLIS);
+            windows.put(key, w);
+        }
+        w.roll(now);
+        return w;
+    }
+
+    private void sweep(Map<String, Window> windows, long now) {
+        for (Map.Entry<String, Window> e : windows.entrySet()) {
+            synchronized (stripeFor(e.getKey())) {
+                if (e.getValue().isIdle(now)) windows.remove(e.getKey(), e.getValue());
+            }
+        }
+    }
+
+    private Object stripeFor(String key) {
+        return stripes[stripeIndex(key)];
+    }
+
+    private static int stripeIndex(String key) {
+        return (key.hashCode() & 0x7fffffff) % STRIPES;
+    }
+
+    private static String userKey(String username) {
+        if (username == null || username.isBlank()) return null;
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long toRetryAfterSeconds(long waitMillis) {
+        return Math.max(1, (waitMillis + 999) / 1000);
+    }
+
+
+    private static final class Window {
+
+        long windowStart;
+        int current;
+        int previous;
+        int failures;
+        long lockedUntil;
+
+        Window(long windowStart) {
+            this.windowStart = windowStart;
+        }
+
+        void roll(long now) {
+            long start = now - now % WINDOW_MILLIS;
+            if (start == windowStart) return;
+
+            previous = (start - windowStart == WINDOW_MILLIS) ? current : 0;
+            current = 0;
+            windowStart = start;
+        }
+
+        double estimate(long now) {
+            double previousWeight = (double) (WINDOW_MILLIS - (now - windowStart)) / WINDOW_MILLIS;
+            return previous * previousWeight + current;
+        }
+
+        boolean isIdle(long now) {
+            return lockedUntil <= now && now - windowStart >= 2 * WINDOW_MILLIS;
+        }
+    }
+}
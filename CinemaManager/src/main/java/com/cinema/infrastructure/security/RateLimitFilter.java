@@ -1,45 +1,74 @@
 package com.cinema.infrastructure.security;
 
-import jakarta.servlet.*;
+import com.cinema.domain.policy.RateLimitPolicy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
 
 
 import java.io.IOException;
-import java.time.Instant;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
-public class RateLimitFilter implements Filter {
+public class RateLimitFilter extends OncePerRequestFilter {
 
-    private final int maxRequests;
-    private final long windowSeconds;
-    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
 
-    public RateLimitFilter(int maxRequests, long windowSeconds) {
-        this.maxRequests = maxRequests;
-        this.windowSeconds = windowSeconds;
+    private final TokenValidator tokenValidator;
+    private final Limiter<String> login;
+    private final Limiter<String> publicRead;
+    private final Limiter<Long> authenticatedWrite;
+
+    public RateLimitFilter(RateLimitPolicy policy, TokenValidator tokenValidator, int maxTrackedClients) {
+        if (maxTrackedClients <= 0) throw new IllegalArgumentException("maxTrackedClients must be positive");
+
+        this.tokenValidator = Objects.requireNonNull(tokenValidator);
+        this.login = new Limiter<>(policy.loginBudget(), maxTrackedClients);
+        this.publicRead = new Limiter<>(policy.publicReadBudget(), maxTrackedClients);
+        this.authenticatedWrite = new Limiter<>(policy.authenticatedWriteBudget(), maxTrackedClients);
     }
 
     @Override
-    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws IOException, ServletException {
 
-        HttpServletRequest http = (HttpServletRequest) request;
-        String ip = http.getRemoteAddr();
-        long now = Instant.now().getEpochSecond();
-
-        Counter c = counters.compute(ip, (key, counter) -> {
-            if (counter == null || now - counter.start > windowSeconds) {
-                return new Counter(now, 1);
+        String method = request.getMethod();
+        boolean read = "GET".equals(method) || "HEAD".equals(method);
+
+        long now = System.nanoTime();
+        long waitNanos = 0;
+
+        if ("POST".equals(method) && isAuthEndpoint(request.getRequestURI())) {
+            waitNanos = login.acquire(request.getRemoteAddr(), now);
+        } else if (!"OPTIONS".equals(method)) {
+            String header = request.getHeader("Authorization");
+
+            if (header == null || header.isBlank()) {
+                if (read) waitNanos = publicRead.acquire(request.getRemoteAddr(), now);
+            } else {
+                // only a token this node has already verified counts as authenticated; anything else is
+                // charged to the anonymous budget before the JWT filter spends a signature check on it
+                ByteBuffer digest = tokenValidator.digestOf(bearerToken(header));
+                if (digest != null) request.setAttribute(TokenValidator.DIGEST_ATTRIBUTE, digest);
+
+                TokenValidator.TokenData principal = tokenValidator.findVerified(digest);
+                if (principal == null) {
+                    waitNanos = publicRead.acquire(request.getRemoteAddr(), now);
+                } else if (!read) {
+                    waitNanos = authenticatedWrite.acquire(principal.userId().value(), now);
+                }
             }
-            counter.count++;
-            return counter;
-        });
+        }
 
-        if (c.count > maxRequests) {
-            ((HttpServletResponse) response).setStatus(429);
-            response.getWriter().write("Too many requests");
+        if (waitNanos > 0) {
+            writeTooManyRequests(response, waitNanos);
             return;
         }
 
@@ -47,19 +76,79 @@ public class RateLimitFilter implements Filter {
         chain.doFilter(request, response);
     }
 
+    public int trackedClients() {
+        return login.size() + publicRead.size() + authenticatedWrite.size();
+    }
 
+    private static boolean isAuthEndpoint(String path) {
+        return "/api/auth/login".equals(path)
+                || "/api/auth/register".equals(path)
+                || "/api/auth/refresh".equals(path);
+    }
 
+    private static String bearerToken(String header) {
+        String h = header.trim();
+        if (!h.regionMatches(true, 0, "Bearer ", 0, 7)) return null;
+        return h.substring(7).trim();
+    }
 
+    private void writeTooManyRequests(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
 
+        response.setStatus(429);
+        response.setHeader("Retry-After", String.valueOf(retryAfter));
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType("application/json");
+        response.getWriter().write("{\"code\":\"RATE_LIMITED\",\"message\":\"Too many requests\"}");
+    }
+
+
+    static final class Limiter<K> {
 
-    private static class Counter {
-        long start;
-        int count;
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final int maxClients;
 
-        Counter(long start, int count) {
-            this.start = start;
-            this.count = count;
+        private final Map<K, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong nextSweepAt = new AtomicLong(System.nanoTime() + SWEEP_INTERVAL_NANOS);
+
+        Limiter(RateLimitPolicy.Budget budget, int maxClients) {
+            this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / budget.perMinute();
+            this.toleranceNanos = intervalNanos * (budget.burst() - 1);
+            this.maxClients = maxClients;
         }
-    }
 
+        long acquire(K client, long now) {
+            AtomicLong theoreticalArrival = buckets.get(client);
+            if (theoreticalArrival == null) theoreticalArrival = track(client, now);
+
+            while (true) {
+                long tat = theoreticalArrival.get();
+                long base = (tat - now > 0) ? tat : now;
+
+                long excess = base - now - toleranceNanos;
+                if (excess > 0) return excess;
+
+                if (theoreticalArrival.compareAndSet(tat, base + intervalNanos)) return 0;
+            }
+        }
+
+        int size() {
+            return buckets.size();
+        }
+
+        private AtomicLong track(K client, long now) {
+            long sweepAt = nextSweepAt.get();
+            if (now - sweepAt >= 0 && nextSweepAt.compareAndSet(sweepAt, now + SWEEP_INTERVAL_NANOS)) {
+                buckets.values().removeIf(tat -> tat.get() - now <= 0);
+            }
+
+            // the lowest theoretical arrival time is the client that has been idle the longest
+            if (buckets.size() >= maxClients) SampledEviction.evictOne(buckets, AtomicLong::get);
+
+            AtomicLong created = new AtomicLong(now);
+            AtomicLong existing = buckets.putIfAbsent(client, created);
+            return (existing != null) ? existing : created;
+        }
+    }
 }
@@ -0,0 +1,89 @@
+package com.cinema.infrastructure.security;
+
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.BaseRole;
+import com.cinema.domain.port.RevocationEpochRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Component
+public class RevocationEpochs {
+
+    private static final String GLOBAL = "global";
+    private static final String ROLE_PREFIX = "role:";
+    private static final String USER_PREFIX = "user:";
+
+    private final RevocationEpochRepository repository;
+
+    private final AtomicLong global = new AtomicLong();
+    private final AtomicLongArray roles = new AtomicLongArray(BaseRole.values().length);
+    private final Map<Long, Long> users = new ConcurrentHashMap<>();
+
+    public RevocationEpochs(RevocationEpochRepository repository) {
+        this.repository = Objects.requireNonNull(repository);
+        load(repository.findAll());
+    }
+
+
+    public Stamp current(UserId userId, BaseRole role) {
+        return new Stamp(global.get(), roles.get(role.ordinal()), users.getOrDefault(userId.value(), 0L));
+    }
+
+    public boolean isCurrent(UserId userId, BaseRole role, Stamp stamp) {
+        if (stamp == null || role == null) return false;
+        return stamp.global() >= global.get()
+                && stamp.role() >= roles.get(role.ordinal())
+                && stamp.user() >= users.getOrDefault(userId.value(), 0L);
+    }
+
+    // memory must not run ahead of the table: after a rollback the next bump reuses the same epoch
+    public long revokeAll() {
+        long epoch = repository.increment(GLOBAL);
+        AfterCommit.run(() -> global.accumulateAndGet(epoch, Math::max));
+        return epoch;
+    }
+
+    public long revokeRole(BaseRole role) {
+        long epoch = repository.increment(ROLE_PREFIX + role.name());
+        AfterCommit.run(() -> roles.accumulateAndGet(role.ordinal(), epoch, Math::max));
+        return epoch;
+    }
+
+    public long revokeUser(UserId userId) {
+        long epoch = repository.increment(USER_PREFIX + userId.value());
+        AfterCommit.run(() -> users.merge(userId.value(), epoch, Math::max));
+        return epoch;
+    }
+
+    public Snapshot snapshot() {
+        long[] roleEpochs = new long[roles.length()];
+        for (int i = 0; i < roleEpochs.length; i++) roleEpochs[i] = roles.get(i);
+        return new Snapshot(global.get(), roleEpochs, users.size());
+    }
+
+    private void load(Map<String, Long> stored) {
+        stored.forEach((scope, epoch) -> {
+            if (GLOBAL.equals(scope)) {
+                global.set(epoch);
+            } else if (scope.startsWith(ROLE_PREFIX)) {
+                try {
+                    roles.set(BaseRole.valueOf(scope.substring(ROLE_PREFIX.length())).ordinal(), epoch);
+                } catch (IllegalArgumentException ignored) {
+                    // role no longer exists
+                }
+            } else if (scope.startsWith(USER_PREFIX)) {
+                users.put(Long.valueOf(scope.substring(USER_PREFIX.length())), epoch);
+            }
+        });
+    }
+
+
+    public record Stamp(long global, long role, long user) {}
+
+    public record Snapshot(long global, long[] roles, int trackedUsers) {}
+}
@@ -0,0 +1,160 @@
+package com.cinema.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class RevocationStore {
+
+    private final int maxEntries;
+    private final long bucketSeconds;
+    private final Clock clock;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, Set<String>> buckets = new TreeMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile long nextPurgeAt;
+
+    private final LongAdder revocations = new LongAdder();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public RevocationStore(
+            @Value("${security.revocation.max-entries:100000}") int maxEntries,
+            @Value("${security.revocation.bucket-seconds:60}") long bucketSeconds
+    ) {
+        this(maxEntries, bucketSeconds, Clock.systemUTC());
+    }
+
+    public RevocationStore(int maxEntries, long bucketSeconds, Clock clock) {
+        if (maxEntries <= 0) throw new IllegalArgumentException("max-entries must be positive");
+        if (bucketSeconds <= 0) throw new IllegalArgumentException("bucket-seconds must be positive");
+        this.maxEntries = maxEntries;
+        this.bucketSeconds = bucketSeconds;
+        this.clock = clock;
+    }
+
+
+    public boolean revoke(String jti, Instant expiresAt) {
+        if (jti == null || jti.isBlank() || expiresAt == null) return false;
+
+        long now = clock.instant().getEpochSecond();
+        long expiry = expiresAt.getEpochSecond();
+        if (expiry <= now) return false;
+
+        long bucket = Math.floorDiv(expiry, bucketSeconds) + 1;
+
+        writeLock.lock();
+        try {
+            purge(now);
+
+            Long previous = revoked.get(jti);
+            if (previous != null) {
+                if (previous < bucket) {
+                    removeFromBucket(previous, jti);
+                    buckets.computeIfAbsent(bucket, b -> new HashSet<>()).add(jti);
+                    revoked.put(jti, bucket);
+                }
+                return false;
+            }
+
+            // entries only need to outlive the access tokens they block, so the one expiring soonest goes first
+            while (revoked.size() >= maxEntries && !buckets.isEmpty()) evictOne();
+
+            buckets.computeIfAbsent(bucket, b -> new HashSet<>()).add(jti);
+            revoked.put(jti, bucket);
+            revocations.increment();
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null) return false;
+        lookups.increment();
+
+        long now = clock.instant().getEpochSecond();
+        if (now >= nextPurgeAt && writeLock.tryLock()) {
+            try {
+                purge(now);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        boolean hit = revoked.containsKey(jti);
+        if (hit) hits.increment();
+        return hit;
+    }
+
+    public Stats stats() {
+        return new Stats(
+                revoked.size(),
+                maxEntries,
+                revocations.sum(),
+                lookups.sum(),
+                hits.sum(),
+                expirations.sum(),
+                evictions.sum()
+        );
+    }
+
+    private void purge(long now) {
+        long current = Math.floorDiv(now, bucketSeconds);
+
+        Iterator<Map.Entry<Long, Set<String>>> it = buckets.headMap(current, true).entrySet().iterator();
+        while (it.hasNext()) {
+            Set<String> jtis = it.next().getValue();
+            for (String jti : jtis) revoked.remove(jti);
+            expirations.add(jtis.size());
+            it.remove();
+        }
+        nextPurgeAt = (current + 1) * bucketSeconds;
+    }
+
+    private void evictOne() {
+        Map.Entry<Long, Set<String>> first = buckets.firstEntry();
+        Iterator<String> it = first.getValue().iterator();
+        String jti = it.next();
+        it.remove();
+        if (first.getValue().isEmpty()) buckets.remove(first.getKey());
+
+        revoked.remove(jti);
+        evictions.increment();
+    }
+
+    private void removeFromBucket(long bucket, String jti) {
+        Set<String> jtis = buckets.get(bucket);
+        if (jtis == null) return;
+        jtis.remove(jti);
+        if (jtis.isEmpty()) buckets.remove(bucket);
+    }
+
+
+    public record Stats(
+            int size,
+            int capacity,
+            long revocations,
+            long lookups,
+            long hits,
+            long expirations,
+            long evictions
+    ) {}
+}
@@ -0,0 +1,34 @@
+package com.cinema.infrastructure.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+final class SampledEviction {
+
+    static final int SAMPLE_SIZE = 8;
+
+    private SampledEviction() {}
+
+
+    // removes the lowest-ranked of the first few entries instead of scanning the whole map;
+    // ranks are timestamps and compared overflow-safe, so System.nanoTime() values work too
+    static <K, V> boolean evictOne(Map<K, V> map, ToLongFunction<V> rank) {
+        K victim = null;
+        V victimValue = null;
+        long lowest = 0;
+
+        Iterator<Map.Entry<K, V>> it = map.entrySet().iterator();
+        for (int seen = 0; seen < SAMPLE_SIZE && it.hasNext(); seen++) {
+            Map.Entry<K, V> e = it.next();
+            long r = rank.applyAsLong(e.getValue());
+            if (victim == null || r - lowest < 0) {
+                victim = e.getKey();
+                victimValue = e.getValue();
+                lowest = r;
+            }
+        }
+
+        return victim != null && map.remove(victim, victimValue);
+    }
+}
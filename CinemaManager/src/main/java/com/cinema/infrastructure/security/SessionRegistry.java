@@ -0,0 +1,172 @@
+package com.cinema.infrastructure.security;
+
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.policy.TokenPolicy;
+import com.cinema.domain.port.SessionRepository;
+import com.cinema.domain.port.SessionRepository.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class SessionRegistry {
+
+    private static final long PURGE_INTERVAL_MILLIS = Duration.ofHours(1).toMillis();
+
+    private final SessionRepository sessions;
+    private final RevocationStore revocationStore;
+    private final TokenPolicy policy;
+    private final Clock clock;
+    private final int maxIndexEntries;
+
+    private final Map<String, Entry> index = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurgeAt = new AtomicLong();
+
+    public SessionRegistry(
+            SessionRepository sessions,
+            RevocationStore revocationStore,
+            TokenPolicy policy,
+            Clock clock,
+            @Value("${security.sessions.max-index-entries:50000}") int maxIndexEntries
+    ) {
+        this.sessions = Objects.requireNonNull(sessions);
+        this.revocationStore = Objects.requireNonNull(revocationStore);
+        this.policy = Objects.requireNonNull(policy);
+        this.clock = Objects.requireNonNull(clock);
+        if (maxIndexEntries <= 0) throw new IllegalArgumentException("max-index-entries must be positive");
+        this.maxIndexEntries = maxIndexEntries;
+    }
+
+
+    @Transactional
+    public List<Session> open(UserId userId, String sessionId, String refreshJti, Instant expiresAt) {
+        Instant now = clock.instant();
+        purgeExpiredIfDue(now);
+
+        // concurrent logins of one user would otherwise all see room under the cap
+        sessions.lockUser(userId);
+
+        List<Session> live = new ArrayList<>();
+        for (Session s : sessions.findByUser(userId)) {
+            if (s.isExpired(now)) sessions.deleteById(s.sessionId());
+            else live.add(s);
+        }
+
+        List<Session> evicted = new ArrayList<>();
+        int excess = live.size() - (policy.maxActiveSessionsPerUser() - 1);
+        for (int i = 0; i < excess; i++) {
+            Session oldest = live.get(i);
+            end(oldest);
+            evicted.add(oldest);
+        }
+
+        sessions.Save(new Session(sessionId, userId, now, expiresAt, refreshJti));
+        AfterCommit.run(() -> remember(sessionId, userId, expiresAt));
+        return evicted;
+    }
+
+    public boolean isActive(UserId userId, String sessionId) {
+        if (userId == null || sessionId == null) return false;
+        if (revocationStore.isRevoked(sessionId)) return false;
+
+        Instant now = clock.instant();
+        Entry cached = index.get(sessionId);
+        if (cached != null) {
+            if (now.isBefore(cached.expiresAt())) return cached.userId().equals(userId);
+            index.remove(sessionId, cached);
+            return false;
+        }
+
+        Optional<Session> stored = sessions.findById(sessionId);
+        if (stored.isEmpty() || stored.get().isExpired(now)) return false;
+
+        Session s = stored.get();
+        remember(s.sessionId(), s.userId(), s.expiresAt());
+        return s.userId().equals(userId);
+    }
+
+    @Transactional
+    public boolean rotate(String sessionId, String presentedJti, String nextJti, Instant expiresAt) {
+        if (!sessions.rotateRefresh(sessionId, presentedJti, nextJti, expiresAt)) return false;
+
+        AfterCommit.run(() -> index.computeIfPresent(sessionId, (sid, e) -> new Entry(e.userId(), expiresAt)));
+        return true;
+    }
+
+    public List<Session> list(UserId userId) {
+        Instant now = clock.instant();
+        return sessions.findByUser(userId).stream()
+                .filter(s -> !s.isExpired(now))
+                .toList();
+    }
+
+    @Transactional
+    public boolean close(UserId userId, String sessionId) {
+        if (sessionId == null) return false;
+
+        Optional<Session> stored = sessions.findById(sessionId);
+        if (stored.isEmpty() || !stored.get().userId().equals(userId)) return false;
+
+        end(stored.get());
+        return true;
+    }
+
+    @Transactional
+    public int closeAll(UserId userId) {
+        List<Session> all = sessions.findByUser(userId);
+        all.forEach(this::end);
+        return all.size();
+    }
+
+    public int indexSize() {
+        return index.size();
+    }
+
+    // a rolled-back close leaves the row in place, so the index and revocation only follow a commit
+    private void end(Session session) {
+        sessions.deleteById(session.sessionId());
+
+        // the deleted row already stops refresh; the entry only has to outlive the session's access tokens
+        Instant accessDeadline = clock.instant().plus(policy.accessTtl()).plus(policy.allowedClockSkew());
+        Instant until = session.expiresAt().isBefore(accessDeadline) ? session.expiresAt() : accessDeadline;
+        AfterCommit.run(() -> {
+            index.remove(session.sessionId());
+            revocationStore.revoke(session.sessionId(), until);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${security.sessions.index-sweep-interval-millis:60000}")
+    public void sweepIndex() {
+        Instant now = clock.instant();
+        index.values().removeIf(e -> !now.isBefore(e.expiresAt()));
+    }
+
+    private void remember(String sessionId, UserId userId, Instant expiresAt) {
+        // the index only caches the session table, so dropping the entry nearest expiry is safe
+        if (index.size() >= maxIndexEntries) SampledEviction.evictOne(index, e -> e.expiresAt().toEpochMilli());
+        index.put(sessionId, new Entry(userId, expiresAt));
+    }
+
+    private void purgeExpiredIfDue(Instant now) {
+        long due = nextPurgeAt.get();
+        if (now.toEpochMilli() < due) return;
+        if (!nextPurgeAt.compareAndSet(due, now.toEpochMilli() + PURGE_INTERVAL_MILLIS)) return;
+
+        sessions.deleteExpired(now);
+    }
+
+
+    private record Entry(UserId userId, Instant expiresAt) {}
+}
@@ -1,6 +1,7 @@
 package com.cinema.infrastructure.security;
 
 import com.cinema.domain.entity.User;
+import com.cinema.domain.policy.TokenPolicy;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -9,59 +10,101 @@ import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Clock;
 import java.time.Instant;
 import java.util.Date;
-import java.util.Set;
+import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class TokenService {
 
+    public static final String CLAIM_TYPE = "typ";
+    public static final String CLAIM_SESSION = "sid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_GLOBAL_EPOCH = "ge";
+    public static final String CLAIM_ROLE_EPOCH = "re";
+    public static final String CLAIM_USER_EPOCH = "ue";
+
+    public static final String TYPE_ACCESS = "access";
+    public static final String TYPE_REFRESH = "refresh";
+
     private final Key key;
-    private final long expirationSeconds;
+    private final TokenPolicy policy;
+    private final RevocationEpochs epochs;
+    private final Clock clock;
 
-    private final Set<String> blacklistedTokens = ConcurrentHashMap.newKeySet();
+    public TokenService(@Value("${jwt.secret}") String secretKey, TokenPolicy policy, RevocationEpochs epochs) {
+        this(secretKey, policy, epochs, Clock.systemUTC());
+    }
 
-    public TokenService(
-            @Value("${jwt.secret}") String secretKey,
-            @Value("${jwt.expiration-seconds:3600}") long expirationSeconds
-    ) {
+    public TokenService(String secretKey, TokenPolicy policy, RevocationEpochs epochs, Clock clock) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
-        this.expirationSeconds = expirationSeconds;
+        this.policy = Objects.requireNonNull(policy);
+        this.epochs = Objects.requireNonNull(epochs);
+        this.clock = Objects.requireNonNull(clock);
     }
 
 
-    public IssuedToken generateToken(User user) {
-        Instant now = Instant.now();
-        String jti = UUID.randomUUID().toString();
+    public IssuedTokens startSession(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    public IssuedTokens rotate(User user, String sessionId) {
+        if (sessionId == null || sessionId.isBlank()) throw new IllegalArgumentException("sessionId is required");
+        return issue(user, sessionId);
+    }
+
+    private IssuedTokens issue(User user, String sessionId) {
+        Instant now = clock.instant();
+        Instant accessExpiresAt = policy.accessExpiry(now);
+        Instant refreshExpiresAt = policy.refreshExpiry(now);
+
+        RevocationEpochs.Stamp stamp = epochs.current(user.id(), user.baseRole());
+
+        String accessJti = UUID.randomUUID().toString();
+        String refreshJti = UUID.randomUUID().toString();
 
-        String token = Jwts.builder()
-                .setId(jti)
+        String accessToken = Jwts.builder()
+                .setId(accessJti)
+                .setIssuer(policy.issuer())
                 .setSubject(String.valueOf(user.id().value()))
                 .claim("username", user.username().value())
-                .claim("role", user.baseRole().name())
+                .claim(CLAIM_ROLE, user.baseRole().name())
+                .claim(CLAIM_TYPE, TYPE_ACCESS)
+                .claim(CLAIM_SESSION, sessionId)
+                .claim(CLAIM_GLOBAL_EPOCH, stamp.global())
+                .claim(CLAIM_ROLE_EPOCH, stamp.role())
+                .claim(CLAIM_USER_EPOCH, stamp.user())
                 .setIssuedAt(Date.from(now))
-                .setExpiration(Date.from(now.plusSeconds(expirationSeconds)))
+                .setExpiration(Date.from(accessExpiresAt))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
 
-        return new IssuedToken(token, jti);
-    }
-
-    public void invalidate(String token) {
-        if (token != null && !token.isBlank()) {
-            blacklistedTokens.add(token);
-        }
-    }
-
-    public boolean isInvalidated(String token) {
-        return token != null && blacklistedTokens.contains(token);
-    }
+        String refreshToken = Jwts.builder()
+                .setId(refreshJti)
+                .setIssuer(policy.issuer())
+                .setSubject(String.valueOf(user.id().value()))
+                .claim(CLAIM_ROLE, user.baseRole().name())
+                .claim(CLAIM_TYPE, TYPE_REFRESH)
+                .claim(CLAIM_SESSION, sessionId)
+                .claim(CLAIM_GLOBAL_EPOCH, stamp.global())
+                .claim(CLAIM_ROLE_EPOCH, stamp.role())
+                .claim(CLAIM_USER_EPOCH, stamp.user())
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(refreshExpiresAt))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
 
-    public void clearBlacklist() {
-        blacklistedTokens.clear();
+        return new IssuedTokens(sessionId, accessToken, accessExpiresAt, refreshToken, refreshExpiresAt, refreshJti);
     }
 
-    public record IssuedToken(String token, String jti) {}
+    public record IssuedTokens(
+            String sessionId,
+            String accessToken,
+            Instant accessExpiresAt,
+            String refreshToken,
+            Instant refreshExpiresAt,
+            String refreshJti
+    ) {}
 }
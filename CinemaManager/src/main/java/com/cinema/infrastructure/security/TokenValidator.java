@@ -1,33 +1,149 @@
 package com.cinema.infrastructure.security;
 
 import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.BaseRole;
+import com.cinema.domain.policy.TokenPolicy;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 @Component
 public class TokenValidator {
 
-    private final Key key;
+    private static final int DEFAULT_CACHE_ENTRIES = 10_000;
 
-    public TokenValidator(@Value("${jwt.secret}") String secretKey) {
-        this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    // set by the rate limit filter so the JWT filter does not hash the same token again
+    public static final String DIGEST_ATTRIBUTE = TokenValidator.class.getName() + ".digest";
+
+    private static final ThreadLocal<byte[]> ASCII_SCRATCH = ThreadLocal.withInitial(() -> new byte[1024]);
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private final JwtParser parser;
+    private final Clock clock;
+    private final Duration allowedClockSkew;
+    private final int maxCacheEntries;
+
+    private final Map<ByteBuffer, TokenData> verified = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public TokenValidator(@Value("${jwt.secret}") String secretKey, TokenPolicy policy) {
+        this(secretKey, policy, DEFAULT_CACHE_ENTRIES, Clock.systemUTC());
+    }
+
+    public TokenValidator(String secretKey, TokenPolicy policy, int maxCacheEntries, Clock clock) {
+        if (maxCacheEntries < 0) throw new IllegalArgumentException("maxCacheEntries must not be negative");
+
+        Key key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.clock = clock;
+        this.allowedClockSkew = policy.allowedClockSkew();
+        this.maxCacheEntries = maxCacheEntries;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .requireIssuer(policy.issuer())
+                .setAllowedClockSkewSeconds(allowedClockSkew.toSeconds())
+                .setClock(() -> Date.from(clock.instant()))
+                .build();
     }
 
     public TokenData validate(String token) {
+        if (token == null || token.isBlank()) throw new InvalidTokenException("Token invalid");
+        return validate(token, digestOf(token));
+    }
+
+    public TokenData validate(String token, ByteBuffer digest) {
+        if (token == null || token.isBlank()) throw new InvalidTokenException("Token invalid");
+
+        TokenData cached = verified.get(digest);
+        if (cached != null) {
+            if (isLive(cached, clock.instant())) {
+                hits.increment();
+                return cached;
+            }
+            verified.remove(digest, cached);
+            throw new ExpiredTokenException("Token expired");
+        }
+
+        misses.increment();
+        TokenData data = parse(token, TokenService.TYPE_ACCESS);
+        remember(digest, data);
+        return data;
+    }
+
+    // a cache lookup only, for callers that must not pay for a signature check; null when not verified yet
+    public TokenData findVerified(ByteBuffer digest) {
+        if (digest == null) return null;
+
+        TokenData cached = verified.get(digest);
+        return (cached != null && isLive(cached, clock.instant())) ? cached : null;
+    }
+
+    public ByteBuffer digestOf(String token) {
+        if (token == null || token.isBlank()) return null;
+
+        MessageDigest md = SHA_256.get();
+        md.reset();
+
+        // tokens are ASCII, so they are fed through a reused buffer instead of a fresh getBytes() copy
+        int length = token.length();
+        byte[] scratch = ASCII_SCRATCH.get();
+        if (length > scratch.length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+            ASCII_SCRATCH.set(scratch);
+        }
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c > 0x7f) return ByteBuffer.wrap(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+            scratch[i] = (byte) c;
+        }
+        md.update(scratch, 0, length);
+        return ByteBuffer.wrap(md.digest());
+    }
+
+    public TokenData validateRefresh(String token) {
+        if (token == null || token.isBlank()) throw new InvalidTokenException("Token invalid");
+        return parse(token, TokenService.TYPE_REFRESH);
+    }
+
+    @Scheduled(fixedDelayString = "${security.token-cache.sweep-interval-millis:60000}")
+    public void sweep() {
+        Instant now = clock.instant();
+        verified.values().removeIf(d -> !isLive(d, now));
+    }
+
+    public CacheStats cacheStats() {
+        return new CacheStats(verified.size(), hits.sum(), misses.sum());
+    }
+
+    private TokenData parse(String token, String expectedType) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = parser.parseClaimsJws(token).getBody();
 
             String sub = claims.getSubject();
             if (sub == null || sub.isBlank()) {
@@ -46,8 +162,41 @@ public class TokenValidator {
                 throw new InvalidTokenException("Missing jti");
             }
 
+            Date exp = claims.getExpiration();
+            if (exp == null) {
+                throw new InvalidTokenException("Missing exp");
+            }
+
+            if (!expectedType.equals(claims.get(TokenService.CLAIM_TYPE, String.class))) {
+                throw new InvalidTokenException("Wrong token type");
+            }
+
+            String sessionId = claims.get(TokenService.CLAIM_SESSION, String.class);
+            if (sessionId == null || sessionId.isBlank()) {
+                throw new InvalidTokenException("Missing sid");
+            }
+
+            String role = claims.get(TokenService.CLAIM_ROLE, String.class);
+            if (role == null) {
+                throw new InvalidTokenException("Missing role");
+            }
+
+            Long globalEpoch = claims.get(TokenService.CLAIM_GLOBAL_EPOCH, Long.class);
+            Long roleEpoch = claims.get(TokenService.CLAIM_ROLE_EPOCH, Long.class);
+            Long userEpoch = claims.get(TokenService.CLAIM_USER_EPOCH, Long.class);
+            if (globalEpoch == null || roleEpoch == null || userEpoch == null) {
+                throw new InvalidTokenException("Missing revocation epochs");
+            }
+
 
-            return new TokenData(new UserId(userId), jti);
+            return new TokenData(
+                    new UserId(userId),
+                    jti,
+                    sessionId,
+                    BaseRole.valueOf(role),
+                    new RevocationEpochs.Stamp(globalEpoch, roleEpoch, userEpoch),
+                    exp.toInstant()
+            );
 
         } catch (ExpiredJwtException e) {
             throw new ExpiredTokenException("Token expired", e);
@@ -57,7 +206,29 @@ public class TokenValidator {
         }
     }
 
-    public record TokenData(UserId userId, String jti) {}
+    private void remember(ByteBuffer digest, TokenData data) {
+        if (maxCacheEntries == 0) return;
+
+        if (verified.size() >= maxCacheEntries) {
+            SampledEviction.evictOne(verified, d -> d.expiresAt().toEpochMilli());
+        }
+        verified.put(digest, data);
+    }
+
+    private boolean isLive(TokenData data, Instant now) {
+        return now.isBefore(data.expiresAt().plus(allowedClockSkew));
+    }
+
+    public record TokenData(
+            UserId userId,
+            String jti,
+            String sessionId,
+            BaseRole role,
+            RevocationEpochs.Stamp epochs,
+            Instant expiresAt
+    ) {}
+
+    public record CacheStats(int size, long hits, long misses) {}
 
 
     public static class InvalidTokenException extends RuntimeException {
@@ -0,0 +1,72 @@
+package com.cinema.presentation.controller;
+
+import com.cinema.application.audit.ExportAuditLogsUseCase;
+import com.cinema.application.screenings.ExportScreeningsUseCase;
+import com.cinema.infrastructure.export.ExportFormat;
+import com.cinema.infrastructure.export.StreamingExport;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/admin/exports")
+public class AdminExportController {
+
+    private static final int GZIP_BUFFER = 64 * 1024;
+
+    private final ExportAuditLogsUseCase exportAuditLogs;
+    private final ExportScreeningsUseCase exportScreenings;
+
+    public AdminExportController(ExportAuditLogsUseCase exportAuditLogs, ExportScreeningsUseCase exportScreenings) {
+        this.exportAuditLogs = exportAuditLogs;
+        this.exportScreenings = exportScreenings;
+    }
+
+    @GetMapping("/audit-logs")
+    public ResponseEntity<StreamingResponseBody> auditLogs(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        ExportFormat f = ExportFormat.parse(format);
+        return stream("audit-logs", f, gzip, exportAuditLogs.export(f, from, to));
+    }
+
+    @GetMapping("/screenings")
+    public ResponseEntity<StreamingResponseBody> screenings(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        ExportFormat f = ExportFormat.parse(format);
+        return stream("screenings", f, gzip, exportScreenings.export(f, from, to));
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(String name, ExportFormat format, boolean gzip, StreamingExport export) {
+        String filename = name + "." + format.extension() + (gzip ? ".gz" : "");
+
+        StreamingResponseBody body = out -> {
+            if (!gzip) {
+                export.writeTo(out);
+                return;
+            }
+            try (GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER)) {
+                export.writeTo(compressed);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.contentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+}
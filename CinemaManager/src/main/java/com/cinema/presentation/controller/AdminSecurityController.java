@@ -0,0 +1,93 @@
+package com.cinema.presentation.controller;
+
+import com.cinema.application.users.RevokeTokensUseCase;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.BaseRole;
+import com.cinema.infrastructure.security.BoundedPasswordHasher;
+import com.cinema.infrastructure.security.RevocationEpochs;
+import com.cinema.infrastructure.security.RevocationStore;
+import com.cinema.presentation.dto.responses.PasswordHasherStatsResponse;
+import com.cinema.presentation.dto.responses.RevocationEpochsResponse;
+import com.cinema.presentation.dto.responses.RevocationStatsResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/security")
+public class AdminSecurityController {
+
+    private final RevocationStore revocationStore;
+    private final BoundedPasswordHasher passwordHasher;
+    private final RevocationEpochs revocationEpochs;
+    private final RevokeTokensUseCase revokeTokens;
+
+    public AdminSecurityController(RevocationStore revocationStore,
+                                   BoundedPasswordHasher passwordHasher,
+                                   RevocationEpochs revocationEpochs,
+                                   RevokeTokensUseCase revokeTokens) {
+        this.revocationStore = revocationStore;
+        this.passwordHasher = passwordHasher;
+        this.revocationEpochs = revocationEpochs;
+        this.revokeTokens = revokeTokens;
+    }
+
+    @GetMapping("/revocations")
+    public ResponseEntity<RevocationStatsResponse> revocations() {
+        var s = revocationStore.stats();
+        return ResponseEntity.ok(new RevocationStatsResponse(
+                s.size(),
+                s.capacity(),
+                s.revocations(),
+                s.lookups(),
+                s.hits(),
+                s.expirations(),
+                s.evictions()
+        ));
+    }
+
+    @GetMapping("/password-hasher")
+    public ResponseEntity<PasswordHasherStatsResponse> passwordHasher() {
+        var s = passwordHasher.stats();
+        return ResponseEntity.ok(new PasswordHasherStatsResponse(
+                s.threads(),
+                s.active(),
+                s.queueDepth(),
+                s.queueCapacity(),
+                s.completed(),
+                s.rejected(),
+                s.avgWaitMicros(),
+                s.maxWaitMicros(),
+                s.cost(),
+                s.calibrationVerifyMicros()
+        ));
+    }
+
+    @GetMapping("/epochs")
+    public ResponseEntity<RevocationEpochsResponse> epochs() {
+        return ResponseEntity.ok(toResponse(revocationEpochs.snapshot()));
+    }
+
+    @PostMapping("/revoke-all")
+    public ResponseEntity<RevocationEpochsResponse> revokeAll(Authentication authentication) {
+        Long adminId = (Long) authentication.getPrincipal();
+        revokeTokens.revokeAll(new UserId(adminId));
+        return ResponseEntity.ok(toResponse(revocationEpochs.snapshot()));
+    }
+
+    @PostMapping("/revoke-role/{role}")
+    public ResponseEntity<RevocationEpochsResponse> revokeRole(@PathVariable String role, Authentication authentication) {
+        Long adminId = (Long) authentication.getPrincipal();
+        revokeTokens.revokeRole(new UserId(adminId), role);
+        return ResponseEntity.ok(toResponse(revocationEpochs.snapshot()));
+    }
+
+    private RevocationEpochsResponse toResponse(RevocationEpochs.Snapshot s) {
+        Map<String, Long> roles = new LinkedHashMap<>();
+        for (BaseRole role : BaseRole.values()) roles.put(role.name(), s.roles()[role.ordinal()]);
+        return new RevocationEpochsResponse(s.global(), roles, s.trackedUsers());
+    }
+}
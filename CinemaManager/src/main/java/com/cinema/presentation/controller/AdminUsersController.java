@@ -4,8 +4,10 @@ import com.cinema.application.users.ActivateUserUseCase;
 import com.cinema.application.users.DeactivateUserUseCase;
 import com.cinema.application.users.DeleteUserUseCase;
 import com.cinema.application.users.LogoutUseCase;
+import com.cinema.application.users.ManageSessionsUseCase;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.port.UserRepository;
+import com.cinema.presentation.dto.responses.SessionResponse;
 import com.cinema.presentation.dto.responses.UserResponse;
 import com.cinema.presentation.mapper.UserMapper;
 import org.springframework.http.ResponseEntity;
@@ -23,17 +25,20 @@ public class AdminUsersController {
     private final DeactivateUserUseCase deactivateUser;
     private final DeleteUserUseCase deleteUser;
     private final LogoutUseCase logoutUseCase;
+    private final ManageSessionsUseCase manageSessions;
 
     public AdminUsersController(UserRepository userRepository,
                                 ActivateUserUseCase activateUser,
                                 DeactivateUserUseCase deactivateUser,
                                 DeleteUserUseCase deleteUser,
-                                LogoutUseCase logoutUseCase) {
+                                LogoutUseCase logoutUseCase,
+                                ManageSessionsUseCase manageSessions) {
         this.userRepository = userRepository;
         this.activateUser = activateUser;
         this.deactivateUser = deactivateUser;
         this.deleteUser = deleteUser;
         this.logoutUseCase = logoutUseCase;
+        this.manageSessions = manageSessions;
     }
 
     @GetMapping
@@ -71,4 +76,22 @@ public class AdminUsersController {
         logoutUseCase.forceLogout(new UserId(adminId), new UserId(id));
         return ResponseEntity.noContent().build();
     }
+
+    @GetMapping("/{id}/sessions")
+    public ResponseEntity<List<SessionResponse>> sessions(@PathVariable long id, Authentication authentication) {
+        Long adminId = (Long) authentication.getPrincipal();
+        var dto = manageSessions.list(new UserId(adminId), new UserId(id)).stream()
+                .map(s -> new SessionResponse(s.sessionId(), s.userId().value(), s.createdAt(), s.expiresAt()))
+                .toList();
+        return ResponseEntity.ok(dto);
+    }
+
+    @DeleteMapping("/{id}/sessions/{sessionId}")
+    public ResponseEntity<Void> killSession(@PathVariable long id,
+                                            @PathVariable String sessionId,
+                                            Authentication authentication) {
+        Long adminId = (Long) authentication.getPrincipal();
+        manageSessions.kill(new UserId(adminId), new UserId(id), sessionId);
+        return ResponseEntity.noContent().build();
+    }
 }
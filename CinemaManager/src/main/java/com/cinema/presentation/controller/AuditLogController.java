@@ -1,30 +1,54 @@
 
 package com.cinema.presentation.controller;
 
+import com.cinema.application.audit.AuditActivityUseCase;
 import com.cinema.application.audit.ListAuditLogsUseCase;
+import com.cinema.infrastructure.audit.AsyncAuditWriter;
+import com.cinema.presentation.dto.responses.AuditActivityResponse;
 import com.cinema.presentation.dto.responses.AuditLogResponse;
+import com.cinema.presentation.dto.responses.AuditWriterStatsResponse;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/admin/audit-logs")
 public class AuditLogController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ListAuditLogsUseCase listAuditLogs;
+    private final AuditActivityUseCase auditActivity;
+    private final AsyncAuditWriter auditWriter;
 
-    public AuditLogController(ListAuditLogsUseCase listAuditLogs) {
+    public AuditLogController(
+            ListAuditLogsUseCase listAuditLogs,
+            AuditActivityUseCase auditActivity,
+            AsyncAuditWriter auditWriter
+    ) {
         this.listAuditLogs = listAuditLogs;
+        this.auditActivity = auditActivity;
+        this.auditWriter = auditWriter;
     }
 
     @GetMapping
-    public ResponseEntity<List<AuditLogResponse>> list() {
-
-        var logs = listAuditLogs.execute(50);
+    public ResponseEntity<List<AuditLogResponse>> list(
+            @RequestParam(required = false) Long actorId,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        var page = listAuditLogs.search(actorId, action, from, to, cursor, limit != null ? limit : 50);
 
-        var dto = logs.stream()
+        var dto = page.items().stream()
                 .map(l -> new AuditLogResponse(
+                        l.id(),
                         l.actorUserId(),
                         l.action(),
                         l.target(),
@@ -32,6 +56,46 @@ public class AuditLogController {
                 ))
                 .toList();
 
-        return ResponseEntity.ok(dto);
+        var response = ResponseEntity.ok();
+        if (page.nextCursor() != null) response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        return response.body(dto);
+    }
+
+    @GetMapping("/activity")
+    public ResponseEntity<AuditActivityResponse> activity(
+            @RequestParam(required = false) String granularity,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to
+    ) {
+        var series = auditActivity.series(granularity, action, from, to);
+
+        return ResponseEntity.ok(new AuditActivityResponse(
+                series.granularity().name().toLowerCase(Locale.ROOT),
+                series.from(),
+                series.to(),
+                series.points().stream()
+                        .map(p -> new AuditActivityResponse.Bucket(p.action(), p.bucketStart(), p.count()))
+                        .toList()
+        ));
+    }
+
+    @GetMapping("/writer")
+    public ResponseEntity<AuditWriterStatsResponse> writer() {
+        var s = auditWriter.stats();
+        return ResponseEntity.ok(new AuditWriterStatsResponse(
+                s.queueDepth(),
+                s.queueCapacity(),
+                s.overflowPolicy(),
+                s.enqueued(),
+                s.written(),
+                s.dropped(),
+                s.failed(),
+                s.callerWrites(),
+                s.batches(),
+                s.currentLagMillis(),
+                s.lastBatchLagMillis(),
+                s.maxLagMillis()
+        ));
     }
 }
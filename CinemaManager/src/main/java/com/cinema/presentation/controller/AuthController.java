@@ -2,6 +2,7 @@ package com.cinema.presentation.controller;
 
 import com.cinema.application.users.AuthenticateUserUseCase;
 import com.cinema.application.users.LogoutUseCase;
+import com.cinema.application.users.RefreshTokenUseCase;
 import com.cinema.application.users.RegisterUserUseCase;
 import com.cinema.application.users.ValidateTokenUseCase;
 import com.cinema.application.users.ValidateTokenUseCase.TokenData;
@@ -9,11 +10,14 @@ import com.cinema.domain.entity.User;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.entity.value.Username;
 import com.cinema.domain.port.UserRepository;
+import com.cinema.infrastructure.security.TokenService;
 import com.cinema.presentation.dto.requests.LoginRequest;
+import com.cinema.presentation.dto.requests.RefreshTokenRequest;
 import com.cinema.presentation.dto.requests.RegisterRequest;
 import com.cinema.presentation.dto.responses.AuthResponse;
 import com.cinema.presentation.dto.responses.TokenInfoResponse;
 import com.cinema.presentation.dto.responses.UserResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -29,19 +33,22 @@ public class AuthController {
     private final ValidateTokenUseCase validateTokenUseCase;
     private final UserRepository userRepository;
     private final RegisterUserUseCase registerUserUseCase;
+    private final RefreshTokenUseCase refreshTokenUseCase;
 
     public AuthController(
             AuthenticateUserUseCase authenticateUser,
             LogoutUseCase logoutUseCase,
             ValidateTokenUseCase validateTokenUseCase,
             UserRepository userRepository,
-            RegisterUserUseCase registerUserUseCase
+            RegisterUserUseCase registerUserUseCase,
+            RefreshTokenUseCase refreshTokenUseCase
     ) {
         this.authenticateUser = authenticateUser;
         this.logoutUseCase = logoutUseCase;
         this.validateTokenUseCase = validateTokenUseCase;
         this.userRepository = userRepository;
         this.registerUserUseCase = registerUserUseCase;
+        this.refreshTokenUseCase = refreshTokenUseCase;
     }
 
     private UserId actor(Authentication auth) {
@@ -59,8 +66,8 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@RequestBody LoginRequest request) {
-        String token = authenticateUser.authenticate(request.username(), request.password());
+    public ResponseEntity<AuthResponse> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        TokenService.IssuedTokens tokens = authenticateUser.authenticate(request.username(), request.password(), httpRequest.getRemoteAddr());
 
 
         User user = userRepository.findByUserName(Username.of(request.username().trim()))
@@ -69,7 +76,15 @@ public class AuthController {
                         "User not found after successful authentication"
                 ));
 
-        return ResponseEntity.ok(new AuthResponse(token, toUserResponse(user)));
+        return ResponseEntity.ok(new AuthResponse(tokens.accessToken(), tokens.refreshToken(), toUserResponse(user)));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody RefreshTokenRequest request) {
+        RefreshTokenUseCase.Result result = refreshTokenUseCase.refresh(request == null ? null : request.refreshToken());
+
+        TokenService.IssuedTokens tokens = result.tokens();
+        return ResponseEntity.ok(new AuthResponse(tokens.accessToken(), tokens.refreshToken(), toUserResponse(result.user())));
     }
 
     @PostMapping("/logout")
@@ -77,7 +92,8 @@ public class AuthController {
         UserId me = actor(authentication);
         if (me == null) throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
 
-        logoutUseCase.logoutSelf(me);
+        Object credentials = authentication.getCredentials();
+        logoutUseCase.logoutSelf(me, (credentials instanceof String sid) ? sid : null);
         return ResponseEntity.noContent().build();
     }
 
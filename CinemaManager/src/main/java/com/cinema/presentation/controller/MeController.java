@@ -8,6 +8,7 @@ import com.cinema.presentation.dto.requests.ChangePasswordRequest;
 import com.cinema.presentation.dto.requests.UpdateUserRequest;
 import com.cinema.presentation.dto.responses.UserResponse;
 import com.cinema.presentation.mapper.UserMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -55,7 +56,8 @@ public class MeController {
     @PutMapping("/password")
     public ResponseEntity<Void> changePassword(
             @RequestBody ChangePasswordRequest request,
-            Authentication authentication
+            Authentication authentication,
+            HttpServletRequest httpRequest
     ) {
         UserId me = currentUserId(authentication);
 
@@ -63,7 +65,8 @@ public class MeController {
                 me,
                 request.oldPassword(),
                 request.newPassword(),
-                request.newPasswordRepeat()
+                request.newPasswordRepeat(),
+                httpRequest.getRemoteAddr()
         );
 
         return ResponseEntity.noContent().build();
@@ -91,7 +94,7 @@ public class MeController {
         UserId me = currentUserId(authentication);
 
         deactivateUser.deactivate(me, me);
-        logout.logoutSelf(me);
+        logout.logoutSelf(me, currentSessionId(authentication));
 
         return ResponseEntity.noContent().build();
     }
@@ -107,7 +110,7 @@ public class MeController {
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(Authentication authentication) {
         UserId me = currentUserId(authentication);
-        logout.logoutSelf(me);
+        logout.logoutSelf(me, currentSessionId(authentication));
         return ResponseEntity.noContent().build();
     }
 
@@ -122,4 +125,9 @@ public class MeController {
         if (p instanceof Integer i) return new UserId(i.longValue());
         return new UserId(Long.parseLong(String.valueOf(p)));
     }
+
+    private String currentSessionId(Authentication authentication) {
+        Object credentials = authentication.getCredentials();
+        return (credentials instanceof String sid) ? sid : null;
+    }
 }
\ No newline at end of file
@@ -5,12 +5,14 @@ import com.cinema.domain.entity.Program;
 import com.cinema.domain.entity.value.ProgramId;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.port.ProgramRepository;
 import com.cinema.presentation.dto.requests.ChangeProgramStateRequest;
 import com.cinema.presentation.dto.requests.CreateProgramRequest;
 import com.cinema.presentation.dto.requests.UpdateProgramRequest;
 import com.cinema.presentation.dto.responses.ProgramPublicResponse;
 import com.cinema.presentation.dto.responses.ProgramResponse;
 import com.cinema.presentation.dto.responses.ProgramViewResponse;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -24,6 +26,9 @@ import java.util.List;
 @RequestMapping("/api/programs")
 public class ProgramController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String AUTO_REJECTED_HEADER = "X-Auto-Rejected";
+
     private final CreateProgramUseCase createProgram;
     private final UpdateProgramUseCase updateProgram;
     private final DeleteProgramUseCase deleteProgram;
@@ -84,6 +89,18 @@ public class ProgramController {
         );
     }
 
+    private ProgramPublicResponse toPublicDto(ProgramRepository.PublicProgram p) {
+        return new ProgramPublicResponse(
+                p.id(),
+                p.name(),
+                p.description(),
+                p.startDate(),
+                p.endDate(),
+                p.state().name(),
+                p.programmerIds()
+        );
+    }
+
     private ProgramResponse toFullDto(Program p) {
         return new ProgramResponse(
                 p.id() != null ? p.id().value() : null,
@@ -103,6 +120,12 @@ public class ProgramController {
         return full ? toFullDto(p) : toPublicDto(p);
     }
 
+    private <T> ResponseEntity<List<T>> withNextCursor(String nextCursor, List<T> body) {
+        var response = ResponseEntity.ok();
+        if (nextCursor != null) response.header(NEXT_CURSOR_HEADER, nextCursor);
+        return response.body(body);
+    }
+
 
     @PostMapping
     public ResponseEntity<Void> create(Authentication auth, @RequestBody CreateProgramRequest request) {
@@ -139,6 +162,10 @@ public class ProgramController {
     public ResponseEntity<ProgramViewResponse> view(Authentication auth, @PathVariable Long id) {
         UserId actorId = actorOrNull(auth);
 
+        if (actorId == null) {
+            return ResponseEntity.ok(toPublicDto(viewProgram.viewPublic(new ProgramId(id))));
+        }
+
 
         ViewProgramUseCase.ViewResult result = viewProgram.view(actorId, new ProgramId(id));
 
@@ -152,19 +179,28 @@ public class ProgramController {
             @RequestParam(required = false) ProgramState programState,
             @RequestParam(required = false) LocalDate from,
             @RequestParam(required = false) LocalDate to,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate runningOn,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "0") int offset,
             @RequestParam(defaultValue = "50") int limit
     ) {
         UserId actorId = actorOrNull(auth);
 
-        var result = searchPrograms.search(actorId, name, programState, from, to, offset, limit);
+        if (actorId == null) {
+            var result = searchPrograms.searchPublic(name, programState, from, to, runningOn, cursor, offset, limit);
+            return withNextCursor(result.nextCursor(), result.programs().stream()
+                    .map(p -> (ProgramViewResponse) toPublicDto(p))
+                    .toList());
+        }
+
+        var result = searchPrograms.search(actorId, name, programState, from, to, runningOn, cursor, offset, limit);
 
 
-        var dtoList = result.stream()
-                .map(p -> toRoleAwareDto(p, viewProgram.canViewFull(actorId, p)))
+        var dtoList = result.programs().stream()
+                .map(r -> toRoleAwareDto(r.program(), r.full()))
                 .toList();
 
-        return ResponseEntity.ok(dtoList);
+        return withNextCursor(result.nextCursor(), dtoList);
     }
 
     @PostMapping("/{id}/programmers/{userId}")
@@ -188,7 +224,9 @@ public class ProgramController {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid nextState");
         }
 
-        Program updated = changeState.changeState(requireActor(auth), new ProgramId(id), next);
-        return ResponseEntity.ok(toFullDto(updated));
+        ChangeProgramStateUseCase.Result result = changeState.changeState(requireActor(auth), new ProgramId(id), next);
+        return ResponseEntity.ok()
+                .header(AUTO_REJECTED_HEADER, String.valueOf(result.autoRejected()))
+                .body(toFullDto(result.program()));
     }
 }
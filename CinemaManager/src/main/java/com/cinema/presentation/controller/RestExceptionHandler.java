@@ -3,8 +3,11 @@ package com.cinema.presentation.controller;
 import com.cinema.domain.Exceptions.AuthorizationException;
 import com.cinema.domain.Exceptions.DuplicateException;
 import com.cinema.domain.Exceptions.NotFoundException;
+import com.cinema.domain.Exceptions.ServiceUnavailableException;
 import com.cinema.domain.Exceptions.StateTransitionForbidden;
+import com.cinema.domain.Exceptions.TooManyRequestsException;
 import com.cinema.domain.Exceptions.ValidationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -73,6 +76,24 @@ public class RestExceptionHandler {
     }
 
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiError> handleServiceUnavailable(ServiceUnavailableException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.retryAfterSeconds()))
+                .body(ApiError.of("SERVICE_UNAVAILABLE", ex.getMessage(), null));
+    }
+
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiError> handleTooManyRequests(TooManyRequestsException ex) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.retryAfterSeconds()))
+                .body(ApiError.of("TOO_MANY_REQUESTS", ex.getMessage(), null));
+    }
+
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiError> handleMethodArgNotValid(MethodArgumentNotValidException ex) {
         Map<String, Object> details = new LinkedHashMap<>();
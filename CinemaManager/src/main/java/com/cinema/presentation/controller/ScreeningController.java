@@ -2,13 +2,12 @@ package com.cinema.presentation.controller;
 
 import com.cinema.application.screenings.*;
 import com.cinema.domain.Exceptions.AuthorizationException;
-import com.cinema.domain.entity.Program;
 import com.cinema.domain.entity.Screening;
 import com.cinema.domain.entity.value.ProgramId;
 import com.cinema.domain.entity.value.ScreeningId;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.enums.ScreeningState;
-import com.cinema.domain.port.ProgramRepository;
+import com.cinema.domain.port.ScreeningRepository;
 import com.cinema.presentation.dto.requests.CreateScreeningRequest;
 import com.cinema.presentation.dto.requests.UpdateScreeningRequest;
 import com.cinema.presentation.dto.responses.ScreeningPublicResponse;
@@ -29,6 +28,9 @@ import java.util.Objects;
 @RequestMapping("/api/screenings")
 public class ScreeningController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String SORT_RECENT = "recent";
+
     private final CreateScreeningUseCase create;
     private final UpdateScreeningUseCase update;
     private final SubmitScreeningUseCase submit;
@@ -42,9 +44,6 @@ public class ScreeningController {
     private final ViewScreeningUseCase view;
     private final SearchScreeningsUseCase search;
 
-
-    private final ProgramRepository programRepository;
-
     public ScreeningController(
             CreateScreeningUseCase create,
             UpdateScreeningUseCase update,
@@ -57,8 +56,7 @@ public class ScreeningController {
             RejectScreeningUseCase reject,
             ScheduleScreeningUseCase schedule,
             ViewScreeningUseCase view,
-            SearchScreeningsUseCase search,
-            ProgramRepository programRepository
+            SearchScreeningsUseCase search
     ) {
         this.create = Objects.requireNonNull(create);
         this.update = Objects.requireNonNull(update);
@@ -72,7 +70,6 @@ public class ScreeningController {
         this.schedule = Objects.requireNonNull(schedule);
         this.view = Objects.requireNonNull(view);
         this.search = Objects.requireNonNull(search);
-        this.programRepository = Objects.requireNonNull(programRepository);
     }
 
 
@@ -98,6 +95,19 @@ public class ScreeningController {
         return value != null ? value : def;
     }
 
+    private boolean isFeedRequest(String sort, String cursor) {
+        if (cursor != null && !cursor.isBlank()) return true;
+        if (sort == null || sort.isBlank()) return false;
+        if (SORT_RECENT.equalsIgnoreCase(sort)) return true;
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid sort");
+    }
+
+    private <T> ResponseEntity<List<T>> withNextCursor(String nextCursor, List<T> body) {
+        var response = ResponseEntity.ok();
+        if (nextCursor != null) response.header(NEXT_CURSOR_HEADER, nextCursor);
+        return response.body(body);
+    }
+
     private ScreeningState parseStateOrNull(String state) {
         if (state == null || state.isBlank()) return null;
         try {
@@ -119,6 +129,17 @@ public class ScreeningController {
         );
     }
 
+    private ScreeningPublicResponse toPublicDto(ScreeningRepository.PublicScreening s) {
+        return new ScreeningPublicResponse(
+                s.id(),
+                s.programId(),
+                s.title(),
+                s.genre(),
+                s.scheduledTime(),
+                s.room()
+        );
+    }
+
     private ScreeningResponse toFullDto(Screening s) {
         return new ScreeningResponse(
                 s.id() != null ? s.id().value() : null,
@@ -256,6 +277,10 @@ public class ScreeningController {
     @GetMapping("/{id}")
     public ResponseEntity<ScreeningViewResponse> view(Authentication auth, @PathVariable Long id) {
         UserId actorId = actorOrNull(auth);
+
+        if (actorId == null) {
+            return ResponseEntity.ok(toPublicDto(view.viewPublic(new ScreeningId(id))));
+        }
         var result = view.view(actorId, new ScreeningId(id));
         return ResponseEntity.ok(toRoleAwareDto(result.screening(), result.full()));
     }
@@ -274,12 +299,50 @@ public class ScreeningController {
             @RequestParam(required = false) Integer offset,
             @RequestParam(required = false) Integer limit,
 
-            @RequestParam(defaultValue = "false") boolean timetable
+            @RequestParam(defaultValue = "false") boolean timetable,
+
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor
     ) {
         UserId actorId = actorOrNull(auth);
         ProgramId pid = new ProgramId(programId);
 
-        List<Screening> screenings = search.searchInProgram(
+        if (isFeedRequest(sort, cursor)) {
+            if (title != null || genre != null || from != null || to != null || timetable) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Filters are not supported with sort=recent");
+            }
+
+            if (actorId == null) {
+                var feed = search.publicProgramFeed(pid, parseStateOrNull(state), cursor, orDefault(limit, 50));
+                return withNextCursor(feed.nextCursor(), feed.items().stream()
+                        .map(p -> (ScreeningViewResponse) toPublicDto(p))
+                        .toList());
+            }
+
+            var feed = search.programFeed(actorId, pid, parseStateOrNull(state), cursor, orDefault(limit, 50));
+            return withNextCursor(feed.nextCursor(), feed.items().stream()
+                    .map(r -> toRoleAwareDto(r.screening(), r.full()))
+                    .toList());
+        }
+
+        if (actorId == null) {
+            var screenings = search.searchPublicInProgram(
+                    pid,
+                    title,
+                    genre,
+                    from,
+                    to,
+                    parseStateOrNull(state),
+                    orDefault(offset, 0),
+                    orDefault(limit, 50),
+                    timetable
+            );
+            return ResponseEntity.ok(screenings.stream()
+                    .map(p -> (ScreeningViewResponse) toPublicDto(p))
+                    .toList());
+        }
+
+        var screenings = search.searchInProgram(
                 actorId,
                 pid,
                 title,
@@ -292,23 +355,41 @@ public class ScreeningController {
                 timetable
         );
 
-        Program program = programRepository.findById(pid)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Program not found"));
-
         var dtoList = screenings.stream()
-                .map(s -> toRoleAwareDto(s, view.canViewFull(actorId, program, s)))
+                .map(r -> toRoleAwareDto(r.screening(), r.full()))
                 .toList();
 
         return ResponseEntity.ok(dtoList);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<List<ScreeningViewResponse>> searchAll(
+            Authentication auth,
+            @RequestParam String q,
+            @RequestParam(required = false) Integer offset,
+            @RequestParam(required = false) Integer limit
+    ) {
+        var result = search.searchAll(
+                actorOrNull(auth),
+                q,
+                orDefault(offset, 0),
+                orDefault(limit, 50)
+        );
+
+        return ResponseEntity.ok(result.stream()
+                .map(r -> toRoleAwareDto(r.screening(), r.full()))
+                .toList());
+    }
+
     @GetMapping("/by-submitter")
     public ResponseEntity<List<ScreeningResponse>> bySubmitter(
             Authentication auth,
             @RequestParam(required = false) Long submitterId,
             @RequestParam(required = false) String state,
             @RequestParam(required = false) Integer offset,
-            @RequestParam(required = false) Integer limit
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor
     ) {
         UserId actorId = requireActor(auth);
 
@@ -316,6 +397,11 @@ public class ScreeningController {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only the submitter can list their own screenings");
         }
 
+        if (isFeedRequest(sort, cursor)) {
+            var feed = search.myScreeningsFeed(actorId, parseStateOrNull(state), cursor, orDefault(limit, 50));
+            return withNextCursor(feed.nextCursor(), feed.items().stream().map(this::toFullDto).toList());
+        }
+
         var result = search.myScreenings(
                 actorId,
                 parseStateOrNull(state),
@@ -330,11 +416,18 @@ public class ScreeningController {
     public ResponseEntity<List<ScreeningResponse>> byStaff(
             Authentication auth,
             @RequestParam(required = false) Integer offset,
-            @RequestParam(required = false) Integer limit
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor
     ) {
         UserId staffId = requireActor(auth);
 
         try {
+            if (isFeedRequest(sort, cursor)) {
+                var feed = search.myAssignedFeed(staffId, cursor, orDefault(limit, 50));
+                return withNextCursor(feed.nextCursor(), feed.items().stream().map(this::toFullDto).toList());
+            }
+
             var result = search.myAssignedAsStaff(
                     staffId,
                     orDefault(offset, 0),
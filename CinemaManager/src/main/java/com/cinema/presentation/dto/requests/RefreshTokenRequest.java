@@ -0,0 +1,4 @@
+package com.cinema.presentation.dto.requests;
+
+public record RefreshTokenRequest(String refreshToken) {
+}
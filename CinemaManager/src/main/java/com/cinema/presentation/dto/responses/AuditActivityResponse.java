@@ -0,0 +1,14 @@
+package com.cinema.presentation.dto.responses;
+
+import java.time.Instant;
+import java.util.List;
+
+public record AuditActivityResponse(
+        String granularity,
+        Instant from,
+        Instant to,
+        List<Bucket> buckets
+) {
+
+    public record Bucket(String action, Instant start, long count) {}
+}
@@ -1,9 +1,9 @@
-
 package com.cinema.presentation.dto.responses;
 
 import java.time.Instant;
 
 public record AuditLogResponse(
+        Long id,
         Long actorUserId,
         String action,
         String target,
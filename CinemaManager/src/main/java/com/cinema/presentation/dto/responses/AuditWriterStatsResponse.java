@@ -0,0 +1,16 @@
+package com.cinema.presentation.dto.responses;
+
+public record AuditWriterStatsResponse(
+        int queueDepth,
+        int queueCapacity,
+        String overflowPolicy,
+        long enqueued,
+        long written,
+        long dropped,
+        long failed,
+        long callerWrites,
+        long batches,
+        long currentLagMillis,
+        long lastBatchLagMillis,
+        long maxLagMillis
+) {}
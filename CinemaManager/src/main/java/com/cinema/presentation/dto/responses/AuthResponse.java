@@ -1,4 +1,4 @@
 package com.cinema.presentation.dto.responses;
 
-public record AuthResponse(String token, UserResponse user) {
+public record AuthResponse(String token, String refreshToken, UserResponse user) {
 }
@@ -0,0 +1,16 @@
+package com.cinema.presentation.dto.responses;
+
+import java.util.Map;
+
+public record PasswordHasherStatsResponse(
+        int threads,
+        int active,
+        int queueDepth,
+        int queueCapacity,
+        long completed,
+        long rejected,
+        long avgWaitMicros,
+        long maxWaitMicros,
+        int cost,
+        Map<Integer, Long> calibrationVerifyMicros
+) {}
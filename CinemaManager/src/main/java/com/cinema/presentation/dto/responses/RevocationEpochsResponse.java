@@ -0,0 +1,9 @@
+package com.cinema.presentation.dto.responses;
+
+import java.util.Map;
+
+public record RevocationEpochsResponse(
+        long global,
+        Map<String, Long> roles,
+        int trackedUsers
+) {}
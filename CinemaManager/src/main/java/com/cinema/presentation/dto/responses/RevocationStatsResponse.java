@@ -0,0 +1,11 @@
+package com.cinema.presentation.dto.responses;
+
+public record RevocationStatsResponse(
+        int size,
+        int capacity,
+        long revocations,
+        long lookups,
+        long hits,
+        long expirations,
+        long evictions
+) {}
@@ -0,0 +1,10 @@
+package com.cinema.presentation.dto.responses;
+
+import java.time.Instant;
+
+public record SessionResponse(
+        String sessionId,
+        Long userId,
+        Instant createdAt,
+        Instant expiresAt
+) {}
@@ -0,0 +1,2 @@
+-- sessions live in user_sessions; the single current token id per user is no longer read or written
+ALTER TABLE users DROP COLUMN current_jti;
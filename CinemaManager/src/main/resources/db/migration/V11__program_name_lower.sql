@@ -0,0 +1,9 @@
+-- search pages in (start_date, lower(name), id) order; an index can only serve that from a stored column
+ALTER TABLE programs ADD COLUMN name_lower VARCHAR(120);
+
+UPDATE programs SET name_lower = LOWER(name);
+
+ALTER TABLE programs ALTER COLUMN name_lower SET NOT NULL;
+
+
+CREATE INDEX idx_programs_start_name_id ON programs(start_date, name_lower, id);
@@ -0,0 +1,4 @@
+
+CREATE INDEX idx_programs_dates ON programs(start_date, end_date);
+
+CREATE INDEX idx_programs_creator ON programs(creator_user_id);
@@ -0,0 +1,4 @@
+
+CREATE INDEX idx_pgpr_user_program ON program_programmers(user_id, program_id);
+
+CREATE INDEX idx_pgstaff_user_program ON program_staff(user_id, program_id);
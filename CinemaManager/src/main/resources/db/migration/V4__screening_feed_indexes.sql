@@ -0,0 +1,6 @@
+
+CREATE INDEX idx_screening_program_created   ON screenings(program_id, created_time, id);
+
+CREATE INDEX idx_screening_submitter_created ON screenings(submitter_id, created_time, id);
+
+CREATE INDEX idx_screening_staff_created     ON screenings(staff_member_id, created_time, id);
@@ -0,0 +1,14 @@
+
+CREATE TABLE user_sessions (
+    session_id  VARCHAR(36) PRIMARY KEY,
+    user_id     BIGINT      NOT NULL,
+    created_at  TIMESTAMP   NOT NULL,
+    expires_at  TIMESTAMP   NOT NULL,
+
+    CONSTRAINT fk_user_sessions_user
+        FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_user_sessions_user_created ON user_sessions(user_id, created_at);
+
+CREATE INDEX idx_user_sessions_expires      ON user_sessions(expires_at);
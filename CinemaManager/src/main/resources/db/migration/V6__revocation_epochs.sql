@@ -0,0 +1,9 @@
+
+CREATE TABLE revocation_epochs (
+    scope  VARCHAR(40) PRIMARY KEY,
+    epoch  BIGINT      NOT NULL
+);
+
+INSERT INTO revocation_epochs(scope, epoch) VALUES ('global', 0);
+INSERT INTO revocation_epochs(scope, epoch) VALUES ('role:USER', 0);
+INSERT INTO revocation_epochs(scope, epoch) VALUES ('role:ADMIN', 0);
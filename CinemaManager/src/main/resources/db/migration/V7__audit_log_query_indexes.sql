@@ -0,0 +1,8 @@
+CREATE INDEX idx_audit_actor_time  ON audit_logs(actor_user_id, timestamp, id);
+
+CREATE INDEX idx_audit_action_time ON audit_logs(action, timestamp, id);
+
+CREATE INDEX idx_audit_time_id     ON audit_logs(timestamp, id);
+
+
+DROP INDEX idx_audit_time;
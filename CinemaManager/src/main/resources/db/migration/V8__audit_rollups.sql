@@ -0,0 +1,10 @@
+CREATE TABLE audit_rollups (
+    granularity   VARCHAR(10) NOT NULL,
+    action        VARCHAR(50) NOT NULL,
+    bucket_start  TIMESTAMP   NOT NULL,
+    event_count   BIGINT      NOT NULL,
+
+    CONSTRAINT pk_audit_rollups PRIMARY KEY (granularity, action, bucket_start)
+);
+
+CREATE INDEX idx_audit_rollups_time ON audit_rollups(granularity, bucket_start);
@@ -0,0 +1,2 @@
+-- the one refresh token id a session will still redeem; rotation swaps it atomically
+ALTER TABLE user_sessions ADD COLUMN refresh_jti VARCHAR(36);
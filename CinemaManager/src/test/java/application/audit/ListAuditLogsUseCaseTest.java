@@ -0,0 +1,80 @@
+package application.audit;
+
+import com.cinema.application.audit.ListAuditLogsUseCase;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.entity.AuditLog;
+import com.cinema.domain.port.AuditArchive;
+import com.cinema.domain.port.AuditLogRepository;
+import com.cinema.domain.port.AuditLogRepository.AuditCursor;
+import com.cinema.domain.port.AuditLogRepository.AuditPage;
+import com.cinema.domain.port.AuditLogRepository.AuditQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ListAuditLogsUseCaseTest {
+
+    private AuditLogRepository repository;
+    private AuditArchive archive;
+    private ListAuditLogsUseCase useCase;
+
+    @BeforeEach
+    void setup() {
+        repository = mock(AuditLogRepository.class);
+        archive = mock(AuditArchive.class);
+        useCase = new ListAuditLogsUseCase(repository, archive);
+    }
+
+    @Test
+    void search_passesFiltersAndReturnsEncodedNextCursor() {
+        Instant t = Instant.parse("2024-05-01T10:00:00Z");
+        AuditLog last = new AuditLog(7L, 3L, "LOGIN", null, t);
+        when(repository.search(any(), any(), anyInt()))
+                .thenReturn(new AuditPage(List.of(last), new AuditCursor(t, 7L)));
+
+        var page = useCase.search(3L, " login ", null, null, null, 1);
+
+        verify(repository).search(new AuditQuery(3L, "LOGIN", null, null), null, 1);
+        assertEquals(new AuditCursor(t, 7L), AuditCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    void search_clampsLimitAndDecodesCursor() {
+        AuditCursor cursor = new AuditCursor(Instant.parse("2024-05-01T10:00:00.123456Z"), 42L);
+        when(repository.search(any(), any(), anyInt())).thenReturn(new AuditPage(List.of(), null));
+
+        useCase.search(null, null, null, null, cursor.encode(), 10_000);
+
+        verify(repository).search(AuditQuery.ALL, cursor, 200);
+    }
+
+    @Test
+    void search_continuesIntoArchiveAfterTheLastHotRow() {
+        Instant t = Instant.parse("2024-05-01T10:00:00Z");
+        AuditLog hot = new AuditLog(9L, 1L, "LOGIN", null, t);
+        AuditLog archived = new AuditLog(4L, 1L, "LOGIN", null, t.minusSeconds(60));
+        when(repository.search(any(), any(), anyInt())).thenReturn(new AuditPage(List.of(hot), null));
+        when(archive.search(any(), any(), anyInt())).thenReturn(List.of(archived));
+
+        var page = useCase.search(null, null, null, null, null, 2);
+
+        verify(archive).search(AuditQuery.ALL, new AuditCursor(t, 9L), 1);
+        assertEquals(List.of(hot, archived), page.items());
+        assertEquals(new AuditCursor(archived.timestamp(), 4L), AuditCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    void search_rejectsInvertedRangeAndBadCursor() {
+        Instant now = Instant.now();
+
+        assertThrows(ValidationException.class, () -> useCase.search(null, null, now, now.minusSeconds(1), null, 10));
+        assertThrows(ValidationException.class, () -> useCase.search(null, null, null, null, "not-a-cursor", 10));
+        verifyNoInteractions(repository, archive);
+    }
+}
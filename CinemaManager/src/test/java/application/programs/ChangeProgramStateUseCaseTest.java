@@ -0,0 +1,80 @@
+package application.programs;
+
+import com.cinema.application.programs.ChangeProgramStateUseCase;
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.enums.ScreeningState;
+import com.cinema.domain.port.ProgramRepository;
+import com.cinema.domain.port.ScreeningRepository;
+import com.cinema.domain.service.ProgramStateMachine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ChangeProgramStateUseCaseTest {
+
+    private ProgramRepository programRepo;
+    private ScreeningRepository screeningRepo;
+    private ChangeProgramStateUseCase useCase;
+
+    @BeforeEach
+    void setup() {
+        programRepo = mock(ProgramRepository.class);
+        screeningRepo = mock(ScreeningRepository.class);
+        useCase = new ChangeProgramStateUseCase(programRepo, new ProgramStateMachine(), screeningRepo);
+    }
+
+    private Program program(ProgramState state) {
+        return new Program(
+                new ProgramId(1L),
+                null,
+                "P",
+                "D",
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 1, 2),
+                new UserId(10L),
+                state
+        );
+    }
+
+    @Test
+    void decision_rejectsApprovedInOneBulkOperation() {
+        UserId caller = new UserId(10L);
+        Program p = program(ProgramState.FINAL_PUBLICATION);
+
+        when(programRepo.isProgrammer(p.id(), caller)).thenReturn(true);
+        when(programRepo.findById(p.id())).thenReturn(Optional.of(p));
+        when(programRepo.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(screeningRepo.rejectAllInState(any(), any(), anyString())).thenReturn(3);
+
+        ChangeProgramStateUseCase.Result result = useCase.changeState(caller, p.id(), ProgramState.DECISION);
+
+        assertEquals(ProgramState.DECISION, result.program().state());
+        assertEquals(3, result.autoRejected());
+        verify(screeningRepo).rejectAllInState(eq(p.id()), eq(ScreeningState.APPROVED), anyString());
+        verify(screeningRepo, never()).save(any());
+    }
+
+    @Test
+    void otherTransitions_doNotTouchScreenings() {
+        UserId caller = new UserId(10L);
+        Program p = program(ProgramState.CREATED);
+
+        when(programRepo.isProgrammer(p.id(), caller)).thenReturn(true);
+        when(programRepo.findById(p.id())).thenReturn(Optional.of(p));
+        when(programRepo.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        ChangeProgramStateUseCase.Result result = useCase.changeState(caller, p.id(), ProgramState.SUBMISSION);
+
+        assertEquals(0, result.autoRejected());
+        verifyNoInteractions(screeningRepo);
+    }
+}
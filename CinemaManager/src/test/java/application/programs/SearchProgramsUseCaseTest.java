@@ -0,0 +1,95 @@
+package application.programs;
+
+import com.cinema.application.programs.SearchProgramsUseCase;
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramRelationship;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.port.ProgramRepository;
+import com.cinema.domain.port.ScreeningRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SearchProgramsUseCaseTest {
+
+    private ProgramRepository programRepo;
+    private ScreeningRepository screeningRepo;
+    private SearchProgramsUseCase useCase;
+
+    @BeforeEach
+    void setup() {
+        programRepo = mock(ProgramRepository.class);
+        screeningRepo = mock(ScreeningRepository.class);
+        useCase = new SearchProgramsUseCase(programRepo, screeningRepo);
+    }
+
+    private Program program(long id, ProgramState state) {
+        return new Program(
+                new ProgramId(id),
+                null,
+                "P" + id,
+                "D",
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 1, 2),
+                new UserId(999L),
+                state
+        );
+    }
+
+    @Test
+    void search_resolvesVisibilityInBulk_andTagsFullAccess() {
+        UserId actor = new UserId(1L);
+        Program staffOf = program(1L, ProgramState.REVIEW);
+        Program submittedTo = program(2L, ProgramState.SUBMISSION);
+        Program hidden = program(3L, ProgramState.CREATED);
+        Program announced = program(4L, ProgramState.ANNOUNCED);
+
+        when(programRepo.search(any(), isNull(), anyInt()))
+                .thenReturn(List.of(staffOf, submittedTo, hidden, announced));
+        when(programRepo.relationships(anyCollection(), eq(actor)))
+                .thenReturn(Map.of(staffOf.id(), ProgramRelationship.STAFF));
+        when(screeningRepo.findProgramIdsWithSubmitter(anyCollection(), eq(actor)))
+                .thenReturn(Set.of(submittedTo.id()));
+
+        var result = useCase.search(actor, null, null, null, null, null, null, 0, 10);
+
+        assertEquals(List.of(staffOf, submittedTo, announced),
+                result.programs().stream().map(r -> r.program()).toList());
+        assertEquals(List.of(true, true, false),
+                result.programs().stream().map(r -> r.full()).toList());
+        assertNull(result.nextCursor());
+
+        verify(programRepo, times(1)).relationships(anyCollection(), eq(actor));
+        verify(screeningRepo, times(1)).findProgramIdsWithSubmitter(anyCollection(), eq(actor));
+        verify(programRepo, never()).isProgrammer(any(), any());
+        verify(programRepo, never()).isStaff(any(), any());
+        verify(screeningRepo, never()).existsByProgramIdAndSubmitterId(any(), any());
+    }
+
+    @Test
+    void search_anonymous_onlyAnnounced_withoutMembershipQueries() {
+        Program announced = program(4L, ProgramState.ANNOUNCED);
+
+        when(programRepo.search(any(), isNull(), anyInt())).thenReturn(List.of(announced));
+
+        var result = useCase.search(null, null, null, null, null, null, null, 0, 1);
+
+        assertEquals(1, result.programs().size());
+        assertFalse(result.programs().get(0).full());
+        assertNotNull(result.nextCursor());
+
+        verify(programRepo).search(argThat(f -> f.state() == ProgramState.ANNOUNCED), isNull(), anyInt());
+        verifyNoInteractions(screeningRepo);
+        verify(programRepo, never()).relationships(any(), any());
+    }
+}
@@ -0,0 +1,118 @@
+package application.users;
+
+import com.cinema.application.users.AuthenticateUserUseCase;
+import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.Exceptions.ServiceUnavailableException;
+import com.cinema.domain.Exceptions.TooManyRequestsException;
+import com.cinema.domain.entity.User;
+import com.cinema.domain.entity.value.HashedPassword;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.entity.value.Username;
+import com.cinema.domain.enums.BaseRole;
+import com.cinema.domain.policy.RateLimitPolicy;
+import com.cinema.domain.port.PasswordHasher;
+import com.cinema.domain.port.UserRepository;
+import com.cinema.infrastructure.security.AuditLogger;
+import com.cinema.infrastructure.security.LoginAttemptLimiter;
+import com.cinema.infrastructure.security.SessionRegistry;
+import com.cinema.infrastructure.security.TokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuthenticateUserUseCaseTest {
+
+    private UserRepository userRepo;
+    private TokenService tokenService;
+    private PasswordHasher hasher;
+    private LoginAttemptLimiter limiter;
+    private AuthenticateUserUseCase useCase;
+
+    private final HashedPassword oldHash = new HashedPassword("$2a$08$abcdefghijklmnopqrstuuabcdefghijklmnopqrstuvwxyz01234");
+    private final HashedPassword newHash = new HashedPassword("$2a$12$abcdefghijklmnopqrstuuabcdefghijklmnopqrstuvwxyz01234");
+
+    @BeforeEach
+    void setup() {
+        userRepo = mock(UserRepository.class);
+        tokenService = mock(TokenService.class);
+        hasher = mock(PasswordHasher.class);
+        limiter = new LoginAttemptLimiter(RateLimitPolicy.defaults(), Clock.systemUTC(), 1000);
+        useCase = new AuthenticateUserUseCase(
+                userRepo, tokenService, mock(AuditLogger.class), hasher, limiter, mock(SessionRegistry.class));
+
+        when(tokenService.startSession(any())).thenReturn(
+                new TokenService.IssuedTokens("sid-1", "token", Instant.EPOCH, "refresh", Instant.EPOCH, "jti-1"));
+        when(userRepo.Save(any())).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    private User user() {
+        User u = new User(new UserId(1L), Username.of("alice1"), oldHash, "Alice", BaseRole.USER, true, 0, null);
+        when(userRepo.findByUserName(Username.of("alice1"))).thenReturn(Optional.of(u));
+        return u;
+    }
+
+    @Test
+    void login_rehashesPasswordWithOutdatedCost() {
+        User u = user();
+        when(hasher.matches(oldHash, "secret")).thenReturn(true);
+        when(hasher.needsRehash(oldHash)).thenReturn(true);
+        when(hasher.hash("secret")).thenReturn(newHash);
+
+        assertEquals("token", useCase.authenticate("alice1", "secret", "10.0.0.1").accessToken());
+
+        assertEquals(newHash, u.password());
+        verify(userRepo, times(1)).Save(u);
+        verify(userRepo).recordLogin(eq(u.id()), any());
+    }
+
+    @Test
+    void login_keepsHashWhenHasherIsBusy() {
+        User u = user();
+        when(hasher.matches(oldHash, "secret")).thenReturn(true);
+        when(hasher.needsRehash(oldHash)).thenReturn(true);
+        when(hasher.hash("secret")).thenThrow(new ServiceUnavailableException("busy", 1));
+
+        assertEquals("token", useCase.authenticate("alice1", "secret", "10.0.0.1").accessToken());
+        assertEquals(oldHash, u.password());
+    }
+
+    @Test
+    void login_withCurrentCost_doesNotRehash() {
+        user();
+        when(hasher.matches(oldHash, "secret")).thenReturn(true);
+        when(hasher.needsRehash(oldHash)).thenReturn(false);
+
+        useCase.authenticate("alice1", "secret", "10.0.0.1");
+
+        verify(hasher, never()).hash(anyString());
+        verify(userRepo, never()).Save(any());
+    }
+
+    @Test
+    void failedLogins_lockWithoutWritesAndRejectBeforeHashing() {
+        User u = user();
+        when(hasher.matches(oldHash, "wrong")).thenReturn(false);
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(AuthorizationException.class, () -> useCase.authenticate("alice1", "wrong", "10.0.0.1"));
+        }
+        AuthorizationException locked =
+                assertThrows(AuthorizationException.class, () -> useCase.authenticate("alice1", "wrong", "10.0.0.1"));
+        assertTrue(locked.getMessage().contains("locked"));
+
+        TooManyRequestsException throttled =
+                assertThrows(TooManyRequestsException.class, () -> useCase.authenticate("alice1", "secret", "10.0.0.2"));
+        assertTrue(throttled.retryAfterSeconds() > 0);
+
+        assertTrue(u.isActive());
+        verify(hasher, times(5)).matches(any(), anyString());
+        verify(userRepo, never()).Save(any());
+    }
+}
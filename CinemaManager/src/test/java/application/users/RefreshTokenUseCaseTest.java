@@ -0,0 +1,166 @@
+package application.users;
+
+import com.cinema.application.users.RefreshTokenUseCase;
+import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.entity.User;
+import com.cinema.domain.entity.value.HashedPassword;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.entity.value.Username;
+import com.cinema.domain.enums.BaseRole;
+import com.cinema.domain.policy.TokenPolicy;
+import com.cinema.domain.port.RevocationEpochRepository;
+import com.cinema.domain.port.SessionRepository;
+import com.cinema.domain.port.UserRepository;
+import com.cinema.infrastructure.security.AuditLogger;
+import com.cinema.infrastructure.security.RevocationEpochs;
+import com.cinema.infrastructure.security.RevocationStore;
+import com.cinema.infrastructure.security.SessionRegistry;
+import com.cinema.infrastructure.security.TokenService;
+import com.cinema.infrastructure.security.TokenValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenUseCaseTest {
+
+    private static final String SECRET = "TestOnlyJwtSecretKey_1234567890ABCDEF";
+
+    private final Map<String, SessionRepository.Session> stored = new LinkedHashMap<>();
+
+    private TokenPolicy policy;
+    private SessionRepository sessionRepo;
+    private UserRepository userRepo;
+    private TokenService tokenService;
+    private TokenValidator tokenValidator;
+    private SessionRegistry sessions;
+    private RevocationEpochs epochs;
+    private RefreshTokenUseCase useCase;
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        policy = new TokenPolicy(Duration.ofMinutes(15), Duration.ofDays(14), Duration.ofSeconds(60), 2, "cinema-api");
+
+        sessionRepo = mock(SessionRepository.class);
+        when(sessionRepo.Save(any())).thenAnswer(inv -> {
+            SessionRepository.Session s = inv.getArgument(0);
+            stored.put(s.sessionId(), s);
+            return s;
+        });
+        when(sessionRepo.findById(anyString())).thenAnswer(inv -> Optional.ofNullable(stored.get(inv.<String>getArgument(0))));
+        when(sessionRepo.findByUser(any())).thenAnswer(inv -> stored.values().stream().toList());
+        doAnswer(inv -> stored.remove(inv.<String>getArgument(0))).when(sessionRepo).deleteById(anyString());
+        when(sessionRepo.rotateRefresh(anyString(), anyString(), anyString(), any())).thenAnswer(inv -> {
+            SessionRepository.Session s = stored.get(inv.<String>getArgument(0));
+            if (s == null || !inv.getArgument(1).equals(s.refreshJti())) return false;
+            stored.put(s.sessionId(), new SessionRepository.Session(
+                    s.sessionId(), s.userId(), s.createdAt(), inv.getArgument(3), inv.getArgument(2)));
+            return true;
+        });
+
+        RevocationEpochRepository epochRepo = mock(RevocationEpochRepository.class);
+        when(epochRepo.increment(anyString())).thenReturn(1L);
+
+        userRepo = mock(UserRepository.class);
+        epochs = new RevocationEpochs(epochRepo);
+        tokenService = new TokenService(SECRET, policy, epochs);
+        tokenValidator = new TokenValidator(SECRET, policy, 100, Clock.systemUTC());
+        sessions = newRegistry();
+        useCase = new RefreshTokenUseCase(
+                tokenValidator, tokenService, sessions, epochs, userRepo, mock(AuditLogger.class));
+
+        user = new User(new UserId(1L), Username.of("alice1"),
+                new HashedPassword("$2a$10$abcdefghijklmnopqrstuuabcdefghijklmnopqrstuvwxyz01234"),
+                "Alice", BaseRole.USER, true, 0, null);
+        when(userRepo.findById(new UserId(1L))).thenReturn(Optional.of(user));
+    }
+
+    private SessionRegistry newRegistry() {
+        return new SessionRegistry(sessionRepo, new RevocationStore(1000, 60, Clock.systemUTC()), policy, Clock.systemUTC(), 100);
+    }
+
+    private TokenService.IssuedTokens login() {
+        TokenService.IssuedTokens tokens = tokenService.startSession(user);
+        sessions.open(user.id(), tokens.sessionId(), tokens.refreshJti(), tokens.refreshExpiresAt());
+        return tokens;
+    }
+
+    @Test
+    void refresh_rotatesTokensWithinTheSameSession() {
+        TokenService.IssuedTokens first = login();
+
+        RefreshTokenUseCase.Result result = useCase.refresh(first.refreshToken());
+
+        TokenService.IssuedTokens second = result.tokens();
+        assertEquals(first.sessionId(), second.sessionId());
+        assertNotEquals(first.refreshToken(), second.refreshToken());
+        assertEquals(first.sessionId(), tokenValidator.validate(second.accessToken()).sessionId());
+    }
+
+    @Test
+    void reusingRotatedRefreshToken_endsTheSession() {
+        TokenService.IssuedTokens first = login();
+        TokenService.IssuedTokens second = useCase.refresh(first.refreshToken()).tokens();
+
+        AuthorizationException reused =
+                assertThrows(AuthorizationException.class, () -> useCase.refresh(first.refreshToken()));
+        assertTrue(reused.getMessage().contains("reuse"));
+        assertFalse(sessions.isActive(user.id(), first.sessionId()));
+
+        assertThrows(AuthorizationException.class, () -> useCase.refresh(second.refreshToken()));
+    }
+
+    @Test
+    void reuseDetection_survivesARestartOfTheInMemoryState() {
+        TokenService.IssuedTokens first = login();
+        useCase.refresh(first.refreshToken());
+
+        RefreshTokenUseCase restarted = new RefreshTokenUseCase(
+                tokenValidator, tokenService, newRegistry(), epochs, userRepo, mock(AuditLogger.class));
+
+        AuthorizationException reused =
+                assertThrows(AuthorizationException.class, () -> restarted.refresh(first.refreshToken()));
+        assertTrue(reused.getMessage().contains("reuse"));
+        assertTrue(stored.isEmpty());
+    }
+
+    @Test
+    void loginsBeyondTheCap_evictOldestSessionOnly() {
+        TokenService.IssuedTokens oldest = login();
+        TokenService.IssuedTokens middle = login();
+        TokenService.IssuedTokens newest = login();
+
+        assertFalse(sessions.isActive(user.id(), oldest.sessionId()));
+        assertThrows(AuthorizationException.class, () -> useCase.refresh(oldest.refreshToken()));
+
+        assertNotNull(useCase.refresh(middle.refreshToken()));
+        assertNotNull(useCase.refresh(newest.refreshToken()));
+    }
+
+    @Test
+    void roleRevocation_rejectsRefreshTokensIssuedBeforeIt() {
+        TokenService.IssuedTokens before = login();
+
+        epochs.revokeRole(BaseRole.USER);
+
+        assertThrows(AuthorizationException.class, () -> useCase.refresh(before.refreshToken()));
+        assertNotNull(useCase.refresh(login().refreshToken()));
+    }
+
+    @Test
+    void accessToken_isNotAcceptedAsRefreshToken() {
+        TokenService.IssuedTokens tokens = login();
+
+        assertThrows(AuthorizationException.class, () -> useCase.refresh(tokens.accessToken()));
+    }
+}
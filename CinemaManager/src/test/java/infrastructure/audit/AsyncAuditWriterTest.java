@@ -0,0 +1,194 @@
+package infrastructure.audit;
+
+import com.cinema.domain.entity.AuditLog;
+import com.cinema.domain.port.AuditLogRepository;
+import com.cinema.infrastructure.audit.AsyncAuditWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class AsyncAuditWriterTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T10:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private final List<String> saved = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseWrites = new CountDownLatch(1);
+
+    private AuditLogRepository repository;
+    private AsyncAuditWriter writer;
+
+    @BeforeEach
+    void setup() {
+        repository = mock(AuditLogRepository.class);
+        doAnswer(inv -> {
+            List<AuditLog> logs = inv.getArgument(0);
+            if (logs.stream().anyMatch(l -> l.action().equals("BAD"))) throw new IllegalStateException("constraint");
+            logs.forEach(l -> saved.add(l.action()));
+            return null;
+        }).when(repository).saveAll(anyList());
+    }
+
+    @AfterEach
+    void teardown() {
+        releaseWrites.countDown();
+        if (writer != null) writer.shutdown();
+    }
+
+    @Test
+    void shutdown_drainsEverythingStillQueued() {
+        writer = newWriter(1000, 50, "block");
+
+        for (int i = 0; i < 500; i++) writer.submit(log("A" + i, 0));
+        writer.shutdown();
+
+        assertEquals(500, saved.size());
+        assertEquals("A0", saved.get(0));
+        assertEquals("A499", saved.get(499));
+        assertEquals(0, writer.stats().queueDepth());
+        assertEquals(500, writer.stats().written());
+    }
+
+    @Test
+    void submit_afterShutdownWritesOnTheCallerThread() {
+        writer = newWriter(10, 10, "block");
+        writer.shutdown();
+
+        writer.submit(log("LATE", 0));
+
+        assertEquals(List.of("LATE"), saved);
+        assertEquals(1, writer.stats().callerWrites());
+    }
+
+    @Test
+    void dropNewest_discardsTheIncomingLogWhenFull() throws Exception {
+        writer = fillWhileWorkerIsStalled("drop-newest");
+
+        writer.submit(log("D", 0));
+        releaseAndShutdown();
+
+        assertEquals(List.of("A", "B", "C"), saved);
+        assertEquals(1, writer.stats().dropped());
+    }
+
+    @Test
+    void dropOldest_evictsTheHeadOfTheQueueWhenFull() throws Exception {
+        writer = fillWhileWorkerIsStalled("drop-oldest");
+
+        writer.submit(log("D", 0));
+        releaseAndShutdown();
+
+        assertEquals(List.of("A", "C", "D"), saved);
+        assertEquals(1, writer.stats().dropped());
+    }
+
+    @Test
+    void block_givesUpAfterTheTimeoutAndCountsADrop() throws Exception {
+        writer = fillWhileWorkerIsStalled("block");
+
+        long started = System.nanoTime();
+        writer.submit(log("D", 0));
+        assertTrue(System.nanoTime() - started >= TimeUnit.MILLISECONDS.toNanos(10));
+        releaseAndShutdown();
+
+        assertEquals(List.of("A", "B", "C"), saved);
+        assertEquals(1, writer.stats().dropped());
+    }
+
+    @Test
+    void callerRuns_writesOverflowSynchronously() throws Exception {
+        writer = fillWhileWorkerIsStalled("caller-runs");
+
+        Thread caller = new Thread(() -> writer.submit(log("D", 0)));
+        caller.start();
+        // the caller shares the stalled repository, so it only completes once writes are released
+        caller.join(200);
+        assertTrue(caller.isAlive());
+
+        releaseAndShutdown();
+        caller.join(1000);
+
+        assertTrue(saved.containsAll(List.of("A", "B", "C", "D")));
+        assertEquals(1, writer.stats().callerWrites());
+        assertEquals(0, writer.stats().dropped());
+    }
+
+    @Test
+    void stats_reportLagOfTheOldestPendingLogAgainstTheClock() throws Exception {
+        writer = newWriter(2, 1, "drop-newest");
+        stallFirstWrite();
+
+        // the log being written still counts as pending until its batch commits
+        writer.submit(log("A", 5_000));
+        assertTrue(firstWriteStarted.await(5, TimeUnit.SECONDS));
+        writer.submit(log("B", 0));
+
+        assertEquals(5_000, writer.stats().currentLagMillis());
+        releaseAndShutdown();
+    }
+
+    @Test
+    void failingBatch_isRetriedRowByRowSoOneBadLogDoesNotSinkTheRest() {
+        writer = newWriter(100, 100, "block");
+
+        writer.submit(log("A", 0));
+        writer.submit(log("BAD", 0));
+        writer.submit(log("C", 0));
+        writer.shutdown();
+
+        assertEquals(List.of("A", "C"), saved);
+        assertEquals(2, writer.stats().written());
+        assertEquals(1, writer.stats().failed());
+    }
+
+
+    private AsyncAuditWriter fillWhileWorkerIsStalled(String policy) throws InterruptedException {
+        AsyncAuditWriter w = newWriter(2, 1, policy);
+        stallFirstWrite();
+
+        w.submit(log("A", 0));
+        assertTrue(firstWriteStarted.await(5, TimeUnit.SECONDS));
+        w.submit(log("B", 0));
+        w.submit(log("C", 0));
+        assertEquals(2, w.stats().queueDepth());
+        return w;
+    }
+
+    private void stallFirstWrite() {
+        doAnswer(inv -> {
+            firstWriteStarted.countDown();
+            assertTrue(releaseWrites.await(5, TimeUnit.SECONDS));
+            List<AuditLog> logs = inv.getArgument(0);
+            logs.forEach(l -> saved.add(l.action()));
+            return null;
+        }).when(repository).saveAll(anyList());
+    }
+
+    private void releaseAndShutdown() {
+        releaseWrites.countDown();
+        writer.shutdown();
+    }
+
+    private AsyncAuditWriter newWriter(int capacity, int batchSize, String policy) {
+        return new AsyncAuditWriter(repository, mock(PlatformTransactionManager.class), clock,
+                capacity, batchSize, 20, policy, 10, 5_000);
+    }
+
+    private static AuditLog log(String action, long ageMillis) {
+        return new AuditLog(1L, action, null, NOW.minusMillis(ageMillis));
+    }
+}
@@ -0,0 +1,154 @@
+package infrastructure.audit;
+
+import com.cinema.domain.port.AuditRollupRepository;
+import com.cinema.domain.port.AuditRollupRepository.Granularity;
+import com.cinema.domain.port.AuditRollupRepository.Point;
+import com.cinema.infrastructure.audit.AuditActivityCounters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuditActivityCountersTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T10:05:30Z");
+
+    private AuditRollupRepository rollups;
+    private AuditActivityCounters counters;
+
+    @BeforeEach
+    void setup() {
+        rollups = mock(AuditRollupRepository.class);
+        counters = new AuditActivityCounters(rollups, mock(PlatformTransactionManager.class),
+                Clock.fixed(NOW, ZoneOffset.UTC), 7, 90);
+    }
+
+    @Test
+    void flush_writesClosedMinutesAtEveryGranularityAndKeepsTheLiveOnes() {
+        counters.increment("LOGIN", at("10:02:10"));
+        counters.increment("LOGIN", at("10:02:50"));
+        counters.increment("LOGIN", at("10:03:00"));
+        counters.increment("LOGOUT", at("10:03:59"));
+        counters.increment("LOGIN", at("10:04:01"));
+        counters.increment("LOGIN", at("10:05:20"));
+
+        counters.flush();
+
+        assertEquals(Set.of(
+                new Point("LOGIN", at("10:02:00"), 2),
+                new Point("LOGIN", at("10:03:00"), 1),
+                new Point("LOGOUT", at("10:03:00"), 1)
+        ), written(Granularity.MINUTE));
+        assertEquals(Set.of(new Point("LOGIN", at("10:00:00"), 3), new Point("LOGOUT", at("10:00:00"), 1)),
+                written(Granularity.HOUR));
+        assertEquals(Set.of(new Point("LOGIN", at("00:00:00"), 3), new Point("LOGOUT", at("00:00:00"), 1)),
+                written(Granularity.DAY));
+
+        // the previous and current minute are still open
+        assertEquals(Set.of(new Point("LOGIN", at("10:04:00"), 1), new Point("LOGIN", at("10:05:00"), 1)),
+                Set.copyOf(counters.pending("LOGIN")));
+        assertTrue(counters.pending("LOGOUT").isEmpty());
+    }
+
+    @Test
+    void flush_prunesOldRollupsAtMostOncePerInterval() {
+        counters.flush();
+        counters.flush();
+
+        verify(rollups).deleteOlderThan(Granularity.MINUTE, NOW.minus(Duration.ofDays(7)));
+        verify(rollups).deleteOlderThan(Granularity.HOUR, NOW.minus(Duration.ofDays(90)));
+        verify(rollups, never()).add(any(), anyList());
+    }
+
+    @Test
+    void failedFlush_putsTheCountsBackForTheNextAttempt() {
+        counters.increment("LOGIN", at("10:01:00"));
+        counters.increment("LOGIN", at("10:01:30"));
+        doThrow(new IllegalStateException("db down")).doNothing().when(rollups).add(any(), anyList());
+
+        assertThrows(IllegalStateException.class, counters::flush);
+        assertEquals(List.of(new Point("LOGIN", at("10:01:00"), 2)), counters.pending("LOGIN"));
+
+        counters.increment("LOGIN", at("10:01:45"));
+        clearInvocations(rollups);
+        counters.flush();
+
+        assertEquals(Set.of(new Point("LOGIN", at("10:01:00"), 3)), written(Granularity.MINUTE));
+        assertTrue(counters.pending(null).isEmpty());
+    }
+
+    @Test
+    void incrementsRacingAFlushOfTheirMinuteAreNeverLost() throws Exception {
+        AtomicLong written = new AtomicLong();
+        doAnswer(inv -> {
+            Granularity granularity = inv.getArgument(0);
+            List<Point> points = inv.getArgument(1);
+            if (granularity == Granularity.MINUTE) points.forEach(p -> written.addAndGet(p.count()));
+            return null;
+        }).when(rollups).add(any(), anyList());
+
+        // a commit that lands long after the event keeps counting into an already-closed minute
+        int threads = 4;
+        int perThread = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) counters.increment("LOGIN", at("10:01:00"));
+                return null;
+            }));
+        }
+
+        start.countDown();
+        while (workers.stream().anyMatch(f -> !f.isDone())) counters.flush();
+        for (Future<?> f : workers) f.get();
+        pool.shutdown();
+        counters.flush();
+
+        assertEquals((long) threads * perThread, written.get());
+        assertTrue(counters.pending(null).isEmpty());
+    }
+
+    @Test
+    void flushAll_drainsTheOpenMinutesToo() {
+        counters.increment("LOGIN", at("10:05:20"));
+
+        counters.flushAll();
+
+        assertEquals(Set.of(new Point("LOGIN", at("10:05:00"), 1)), written(Granularity.MINUTE));
+        assertTrue(counters.pending(null).isEmpty());
+    }
+
+
+    private Set<Point> written(Granularity granularity) {
+        ArgumentCaptor<List<Point>> captor = ArgumentCaptor.captor();
+        verify(rollups, atLeast(0)).add(eq(granularity), captor.capture());
+        Set<Point> points = new HashSet<>();
+        captor.getAllValues().forEach(points::addAll);
+        return points;
+    }
+
+    private static Instant at(String time) {
+        return Instant.parse("2024-05-01T" + time + "Z");
+    }
+}
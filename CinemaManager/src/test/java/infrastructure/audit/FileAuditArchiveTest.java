@@ -0,0 +1,115 @@
+package infrastructure.audit;
+
+import com.cinema.domain.entity.AuditLog;
+import com.cinema.domain.port.AuditLogRepository.AuditCursor;
+import com.cinema.domain.port.AuditLogRepository.AuditQuery;
+import com.cinema.infrastructure.audit.FileAuditArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileAuditArchiveTest {
+
+    private static final LocalDate DAY_1 = LocalDate.parse("2024-05-01");
+    private static final LocalDate DAY_2 = LocalDate.parse("2024-05-02");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void search_returnsNewestFirstAcrossSegmentsAndAppendedMembers() {
+        FileAuditArchive archive = new FileAuditArchive(dir.toString());
+        archive.append(DAY_1, List.of(log(1, "LOGIN", DAY_1, 10), log(2, "LOGOUT", DAY_1, 20)));
+        archive.append(DAY_1, List.of(log(3, "LOGIN", DAY_1, 30)));
+        archive.append(DAY_2, List.of(log(4, "LOGIN", DAY_2, 10)));
+
+        assertEquals(List.of(4L, 3L, 2L, 1L), ids(archive.search(AuditQuery.ALL, null, 10)));
+        assertEquals(List.of(4L, 3L), ids(archive.search(AuditQuery.ALL, null, 2)));
+        assertEquals(List.of(3L, 1L), ids(archive.search(
+                new AuditQuery(null, "LOGIN", null, null), new AuditCursor(at(DAY_2, 10), 4L), 10)));
+        assertEquals(new AuditCursor(at(DAY_2, 10), 4L), archive.watermark());
+    }
+
+    @Test
+    void forEachInRange_streamsOldestFirstAndStopsAtTheCursor() {
+        FileAuditArchive archive = new FileAuditArchive(dir.toString());
+        archive.append(DAY_1, List.of(log(1, "A", DAY_1, 10), log(2, "B", DAY_1, 20)));
+        archive.append(DAY_2, List.of(log(3, "C", DAY_2, 10), log(4, "D", DAY_2, 20)));
+
+        List<AuditLog> seen = new ArrayList<>();
+        archive.forEachInRange(at(DAY_1, 15), null, new AuditCursor(at(DAY_2, 10), 3L), seen::add);
+
+        assertEquals(List.of(2L, 3L), ids(seen));
+    }
+
+    @Test
+    void watermark_survivesAReopen() {
+        new FileAuditArchive(dir.toString()).append(DAY_1, List.of(log(1, "A", DAY_1, 10)));
+
+        FileAuditArchive reopened = new FileAuditArchive(dir.toString());
+
+        assertEquals(new AuditCursor(at(DAY_1, 10), 1L), reopened.watermark());
+        assertEquals(List.of(1L), ids(reopened.search(AuditQuery.ALL, null, 10)));
+    }
+
+    @Test
+    void recover_truncatesAnAppendThatNeverReachedItsWatermark() throws Exception {
+        new FileAuditArchive(dir.toString()).append(DAY_1, List.of(log(1, "A", DAY_1, 10)));
+        Path segment = dir.resolve("audit-" + DAY_1 + ".ndjson.gz");
+        long committedSize = Files.size(segment);
+
+        // simulate a crash after the pending marker was written and part of the next member hit the disk
+        Properties state = new Properties();
+        state.setProperty("watermark.timestamp", at(DAY_1, 10).toString());
+        state.setProperty("watermark.id", "1");
+        state.setProperty("pending.segment", segment.getFileName().toString());
+        state.setProperty("pending.offset", Long.toString(committedSize));
+        try (OutputStream out = Files.newOutputStream(dir.resolve("archive.state"))) {
+            state.store(out, null);
+        }
+        Files.write(segment, new byte[]{0x1f, (byte) 0x8b, 8, 0, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        FileAuditArchive recovered = new FileAuditArchive(dir.toString());
+
+        assertEquals(committedSize, Files.size(segment));
+        assertEquals(new AuditCursor(at(DAY_1, 10), 1L), recovered.watermark());
+        assertEquals(List.of(1L), ids(recovered.search(AuditQuery.ALL, null, 10)));
+
+        // the retried chunk lands exactly once
+        recovered.append(DAY_1, List.of(log(2, "B", DAY_1, 20)));
+        assertEquals(List.of(2L, 1L), ids(new FileAuditArchive(dir.toString()).search(AuditQuery.ALL, null, 10)));
+    }
+
+    @Test
+    void search_isEmptyBeforeAnythingWasArchived() {
+        FileAuditArchive archive = new FileAuditArchive(dir.toString());
+
+        assertNull(archive.watermark());
+        assertTrue(archive.search(AuditQuery.ALL, null, 10).isEmpty());
+    }
+
+
+    private static AuditLog log(long id, String action, LocalDate day, int minute) {
+        return new AuditLog(id, 7L, action, "target-" + id, at(day, minute));
+    }
+
+    private static Instant at(LocalDate day, int minute) {
+        return day.atStartOfDay().toInstant(ZoneOffset.UTC).plusSeconds(minute * 60L);
+    }
+
+    private static List<Long> ids(List<AuditLog> logs) {
+        return logs.stream().map(AuditLog::id).toList();
+    }
+}
@@ -0,0 +1,71 @@
+package infrastructure.export;
+
+import com.cinema.infrastructure.export.ExportFormat;
+import com.cinema.infrastructure.export.ExportWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportWriterTest {
+
+    private static final List<String> COLUMNS = List.of("id", "action", "target");
+
+    @Test
+    void csv_writesHeaderAndQuotesCellsThatNeedIt() throws Exception {
+        String csv = write(ExportFormat.CSV,
+                new Object[]{1L, "LOGIN", null},
+                new Object[]{2L, "a,b", "say \"hi\""},
+                new Object[]{3L, "multi\nline", "é"});
+
+        assertEquals("id,action,target\r\n"
+                + "1,LOGIN,\r\n"
+                + "2,\"a,b\",\"say \"\"hi\"\"\"\r\n"
+                + "3,\"multi\nline\",é\r\n", csv);
+    }
+
+    @Test
+    void csv_keepsFormulaLookingTextAsText() throws Exception {
+        String csv = write(ExportFormat.CSV,
+                new Object[]{-5L, "=HYPERLINK(\"http://x\")", "+1"},
+                new Object[]{6L, "-2", "@SUM(A1)"},
+                new Object[]{7L, "\tTAB", "a=b"});
+
+        assertEquals("id,action,target\r\n"
+                + "-5,\"'=HYPERLINK(\"\"http://x\"\")\",'+1\r\n"
+                + "6,'-2,'@SUM(A1)\r\n"
+                + "7,'\tTAB,a=b\r\n", csv);
+    }
+
+    @Test
+    void ndjson_writesOneTypedObjectPerLine() throws Exception {
+        Instant at = Instant.parse("2024-05-01T10:00:00Z");
+
+        String ndjson = write(ExportFormat.NDJSON,
+                new Object[]{1L, "=LOGIN", null},
+                new Object[]{2L, "line\nbreak", at});
+
+        assertEquals("{\"id\":1,\"action\":\"=LOGIN\",\"target\":null}\n"
+                + "{\"id\":2,\"action\":\"line\\nbreak\",\"target\":\"2024-05-01T10:00:00Z\"}\n", ndjson);
+    }
+
+    @Test
+    void row_rejectsTheWrongNumberOfValues() throws Exception {
+        try (ExportWriter writer = ExportWriter.open(ExportFormat.CSV, new ByteArrayOutputStream(), COLUMNS)) {
+            assertThrows(IllegalArgumentException.class, () -> writer.row(1L, "LOGIN"));
+        }
+    }
+
+
+    private static String write(ExportFormat format, Object[]... rows) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ExportWriter writer = ExportWriter.open(format, out, COLUMNS)) {
+            for (Object[] row : rows) writer.row(row);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
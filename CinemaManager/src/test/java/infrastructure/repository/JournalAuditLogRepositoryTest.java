@@ -0,0 +1,149 @@
+package infrastructure.repository;
+
+import com.cinema.domain.entity.AuditLog;
+import com.cinema.domain.port.AuditLogRepository.AuditCursor;
+import com.cinema.domain.port.AuditLogRepository.AuditQuery;
+import com.cinema.infrastructure.repository.JournalAuditLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalAuditLogRepositoryTest {
+
+    private static final Instant T0 = Instant.parse("2024-05-01T10:00:00.123456789Z");
+    private static final int HEADER_SIZE = 64;
+    private static final int RECORD_SIZE = 512;
+
+    @TempDir
+    Path dir;
+
+    private final List<JournalAuditLogRepository> opened = new ArrayList<>();
+
+    @AfterEach
+    void teardown() {
+        opened.forEach(JournalAuditLogRepository::close);
+    }
+
+    @Test
+    void records_roundTripThroughTheBinaryEncodingAcrossAReopen() {
+        String longAction = "A".repeat(100);
+        String multiByteTarget = "é".repeat(300);
+
+        JournalAuditLogRepository journal = open(16, 0);
+        journal.saveAll(List.of(
+                new AuditLog(7L, "LOGIN", "user:7", T0),
+                new AuditLog(null, "SYSTEM", null, T0.plusSeconds(1)),
+                new AuditLog(8L, longAction, multiByteTarget, T0.plusSeconds(2))
+        ));
+        journal.close();
+
+        List<AuditLog> rows = open(16, 0).findLatest(10);
+
+        assertEquals(List.of(3L, 2L, 1L), ids(rows));
+
+        AuditLog login = rows.get(2);
+        assertEquals(7L, login.actorUserId());
+        assertEquals("LOGIN", login.action());
+        assertEquals("user:7", login.target());
+        assertEquals(T0, login.timestamp());
+
+        AuditLog system = rows.get(1);
+        assertNull(system.actorUserId());
+        assertNull(system.target());
+
+        // oversized text is cut to the record's fixed fields on a character boundary
+        AuditLog truncated = rows.get(0);
+        assertEquals(64, truncated.action().length());
+        assertEquals(206, truncated.target().length());
+        assertTrue(multiByteTarget.startsWith(truncated.target()));
+    }
+
+    @Test
+    void open_dropsATornTailAndZeroesAnythingFlushedAfterIt() throws Exception {
+        JournalAuditLogRepository journal = open(16, 0);
+        for (int i = 0; i < 4; i++) journal.save(new AuditLog(1L, "A" + i, null, T0.plusSeconds(i)));
+        journal.close();
+
+        Path segment = onlySegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            // a torn third record (its checksum no longer matches) and a stray page written ahead of the tail
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF}), HEADER_SIZE + 2L * RECORD_SIZE + 40);
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), HEADER_SIZE + 6L * RECORD_SIZE);
+        }
+
+        JournalAuditLogRepository recovered = open(16, 0);
+
+        assertEquals(List.of(2L, 1L), ids(recovered.findLatest(10)));
+        byte[] bytes = Files.readAllBytes(segment);
+        for (int i = HEADER_SIZE + 2 * RECORD_SIZE; i < bytes.length; i++) {
+            assertEquals(0, bytes[i], "byte " + i + " should have been zeroed");
+        }
+
+        recovered.save(new AuditLog(1L, "AFTER", null, T0.plusSeconds(10)));
+        assertEquals("AFTER", recovered.findLatest(1).get(0).action());
+        assertEquals(3L, recovered.findLatest(1).get(0).id());
+    }
+
+    @Test
+    void rotate_sealsFullSegmentsAndDropsTheOldestBeyondTheLimit() throws Exception {
+        JournalAuditLogRepository journal = open(2, 2);
+        for (int i = 0; i < 5; i++) journal.save(new AuditLog(1L, "A" + i, null, T0.plusSeconds(i)));
+
+        assertEquals(List.of(5L, 4L, 3L), ids(journal.findLatest(10)));
+        journal.close();
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(2, files.count());
+        }
+        JournalAuditLogRepository reopened = open(2, 2);
+        assertEquals(List.of(5L, 4L, 3L), ids(reopened.findLatest(10)));
+
+        reopened.save(new AuditLog(1L, "A5", null, T0.plusSeconds(5)));
+        assertEquals(6L, reopened.findLatest(1).get(0).id());
+    }
+
+    @Test
+    void search_andRangeScansWalkSegmentsInIdOrder() {
+        JournalAuditLogRepository journal = open(2, 0);
+        for (int i = 0; i < 6; i++) {
+            journal.save(new AuditLog(i % 2 == 0 ? 1L : 2L, "A" + i, null, T0.plusSeconds(i)));
+        }
+
+        var page = journal.search(new AuditQuery(1L, null, null, null), null, 2);
+        assertEquals(List.of(5L, 3L), ids(page.items()));
+        assertEquals(List.of(1L), ids(journal.search(new AuditQuery(1L, null, null, null), page.next(), 2).items()));
+
+        List<AuditLog> seen = new ArrayList<>();
+        journal.forEachInRange(null, T0.plusSeconds(5), new AuditCursor(T0.plusSeconds(1), 2L), seen::add);
+        assertEquals(List.of(3L, 4L, 5L), ids(seen));
+    }
+
+
+    private JournalAuditLogRepository open(int segmentRecords, int maxSegments) {
+        JournalAuditLogRepository journal = new JournalAuditLogRepository(dir.toString(), segmentRecords, maxSegments, 1, 0);
+        opened.add(journal);
+        return journal;
+    }
+
+    private Path onlySegment() throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.findFirst().orElseThrow();
+        }
+    }
+
+    private static List<Long> ids(List<AuditLog> logs) {
+        return logs.stream().map(AuditLog::id).toList();
+    }
+}
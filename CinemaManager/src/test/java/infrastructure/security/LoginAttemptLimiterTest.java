@@ -0,0 +1,77 @@
+package infrastructure.security;
+
+import com.cinema.domain.policy.RateLimitPolicy;
+import com.cinema.infrastructure.security.LoginAttemptLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginAttemptLimiterTest {
+
+    // the start of a minute, so no previous window weighs on the estimate
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-05-01T10:05:00Z"), ZoneOffset.UTC);
+
+    private final RateLimitPolicy policy = RateLimitPolicy.defaults();
+
+    @Test
+    void tryAcquire_sequential_allowsTheBudgetThenAsksToRetry() {
+        LoginAttemptLimiter limiter = new LoginAttemptLimiter(policy, CLOCK, 100);
+
+        for (int i = 0; i < policy.loginAttemptsPerMinute(); i++) {
+            assertEquals(0, limiter.tryAcquire("alice", "10.0.0.1"));
+        }
+        assertTrue(limiter.tryAcquire("alice", "10.0.0.1") > 0);
+    }
+
+    @Test
+    void tryAcquire_concurrentForOneUsername_neverExceedsTheBudget() throws Exception {
+        assertEquals(policy.loginAttemptsPerMinute(), concurrentGrants(i -> new String[]{"alice", "10.0.0." + i}));
+    }
+
+    @Test
+    void tryAcquire_concurrentFromOneIp_neverExceedsTheBudget() throws Exception {
+        assertEquals(policy.loginAttemptsPerMinute(), concurrentGrants(i -> new String[]{"user" + i, "10.0.0.1"}));
+    }
+
+
+    private int concurrentGrants(IntFunction<String[]> attempt) throws Exception {
+        LoginAttemptLimiter limiter = new LoginAttemptLimiter(policy, CLOCK, 10_000);
+        int threads = 8;
+        int attemptsPerThread = 50;
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int base = t * attemptsPerThread;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        String[] key = attempt.apply(base + i);
+                        if (limiter.tryAcquire(key[0], key[1]) == 0) granted.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) f.get();
+        } finally {
+            pool.shutdownNow();
+        }
+        return granted.get();
+    }
+}
@@ -0,0 +1,101 @@
+package infrastructure.security;
+
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.BaseRole;
+import com.cinema.domain.port.RevocationEpochRepository;
+import com.cinema.infrastructure.security.RevocationEpochs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RevocationEpochsTest {
+
+    private static final UserId USER = new UserId(7L);
+
+    private RevocationEpochRepository repository;
+    private RevocationEpochs epochs;
+
+    @BeforeEach
+    void setup() {
+        repository = mock(RevocationEpochRepository.class);
+        when(repository.findAll()).thenReturn(Map.of());
+        epochs = new RevocationEpochs(repository);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void revokeUser_rolledBack_leavesTheEpochInMemoryUnchanged() {
+        RevocationEpochs.Stamp issued = epochs.current(USER, BaseRole.USER);
+        when(repository.increment("user:7")).thenReturn(1L);
+
+        assertEquals(1L, epochs.revokeUser(USER));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertTrue(epochs.isCurrent(USER, BaseRole.USER, issued));
+        assertEquals(issued, epochs.current(USER, BaseRole.USER));
+    }
+
+    @Test
+    void revokeUser_committed_invalidatesStampsIssuedBefore() {
+        RevocationEpochs.Stamp issued = epochs.current(USER, BaseRole.USER);
+        when(repository.increment("user:7")).thenReturn(1L);
+
+        epochs.revokeUser(USER);
+        assertTrue(epochs.isCurrent(USER, BaseRole.USER, issued), "memory must not move before the commit");
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertFalse(epochs.isCurrent(USER, BaseRole.USER, issued));
+        assertTrue(epochs.isCurrent(USER, BaseRole.USER, epochs.current(USER, BaseRole.USER)));
+    }
+
+    @Test
+    void revokeRoleAndAll_rolledBack_leaveEveryScopeUnchanged() {
+        RevocationEpochs.Stamp issued = epochs.current(USER, BaseRole.ADMIN);
+        when(repository.increment(anyString())).thenReturn(3L);
+
+        epochs.revokeRole(BaseRole.ADMIN);
+        epochs.revokeAll();
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertTrue(epochs.isCurrent(USER, BaseRole.ADMIN, issued));
+        assertEquals(0L, epochs.snapshot().global());
+        assertEquals(0L, epochs.snapshot().roles()[BaseRole.ADMIN.ordinal()]);
+    }
+
+    @Test
+    void revoke_outsideATransaction_appliesImmediately() {
+        TransactionSynchronizationManager.clearSynchronization();
+        RevocationEpochs.Stamp issued = epochs.current(USER, BaseRole.USER);
+        when(repository.increment("global")).thenReturn(1L);
+
+        epochs.revokeAll();
+
+        assertFalse(epochs.isCurrent(USER, BaseRole.USER, issued));
+    }
+
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> registered = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization s : registered) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) s.afterCommit();
+            s.afterCompletion(status);
+        }
+    }
+}
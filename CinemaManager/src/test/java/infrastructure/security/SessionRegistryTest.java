@@ -0,0 +1,87 @@
+package infrastructure.security;
+
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.policy.TokenPolicy;
+import com.cinema.domain.port.SessionRepository;
+import com.cinema.domain.port.SessionRepository.Session;
+import com.cinema.infrastructure.security.RevocationStore;
+import com.cinema.infrastructure.security.SessionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SessionRegistryTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T10:00:00Z");
+    private static final UserId USER = new UserId(1L);
+
+    private final Map<String, Session> stored = new LinkedHashMap<>();
+    private SessionRepository sessions;
+    private SessionRegistry registry;
+
+    @BeforeEach
+    void setup() {
+        // findByUser answers oldest first, like the repository
+        sessions = mock(SessionRepository.class);
+        when(sessions.Save(any())).thenAnswer(inv -> {
+            Session s = inv.getArgument(0);
+            stored.put(s.sessionId(), s);
+            return s;
+        });
+        when(sessions.findById(anyString())).thenAnswer(inv -> Optional.ofNullable(stored.get(inv.<String>getArgument(0))));
+        when(sessions.findByUser(any())).thenAnswer(inv -> stored.values().stream().toList());
+        doAnswer(inv -> stored.remove(inv.<String>getArgument(0))).when(sessions).deleteById(anyString());
+
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        TokenPolicy policy = new TokenPolicy(Duration.ofMinutes(15), Duration.ofDays(14), Duration.ofSeconds(60), 2, "cinema-api");
+        registry = new SessionRegistry(sessions, new RevocationStore(1000, 60, clock), policy, clock, 100);
+    }
+
+    @Test
+    void open_atTheCap_evictsTheOldestSession() {
+        Instant expiresAt = NOW.plus(Duration.ofDays(14));
+        assertTrue(registry.open(USER, "s1", "r1", expiresAt).isEmpty());
+        assertTrue(registry.open(USER, "s2", "r2", expiresAt).isEmpty());
+
+        List<Session> evicted = registry.open(USER, "s3", "r3", expiresAt);
+
+        assertEquals(List.of("s1"), evicted.stream().map(Session::sessionId).toList());
+        assertEquals(List.of("s2", "s3"), List.copyOf(stored.keySet()));
+        assertFalse(registry.isActive(USER, "s1"));
+        assertTrue(registry.isActive(USER, "s2"));
+        assertTrue(registry.isActive(USER, "s3"));
+    }
+
+    @Test
+    void open_dropsExpiredSessionsBeforeCountingAgainstTheCap() {
+        stored.put("old", new Session("old", USER, NOW.minus(Duration.ofDays(20)), NOW.minusSeconds(1), "r0"));
+        Instant expiresAt = NOW.plus(Duration.ofDays(14));
+        registry.open(USER, "s1", "r1", expiresAt);
+
+        assertTrue(registry.open(USER, "s2", "r2", expiresAt).isEmpty());
+        assertEquals(List.of("s1", "s2"), List.copyOf(stored.keySet()));
+    }
+
+    @Test
+    void open_locksTheUserBeforeReadingTheirSessions() {
+        registry.open(USER, "s1", "r1", NOW.plus(Duration.ofDays(14)));
+
+        InOrder order = inOrder(sessions);
+        order.verify(sessions).lockUser(USER);
+        order.verify(sessions).findByUser(USER);
+        order.verify(sessions).Save(any());
+    }
+}